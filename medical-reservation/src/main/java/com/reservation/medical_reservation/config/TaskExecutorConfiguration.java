@@ -0,0 +1,43 @@
+package com.reservation.medical_reservation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TaskExecutorConfiguration {
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationStreamExecutor(@Value("${notifications.stream.sender-threads:2}") int senderThreads) {
+        return fixedPool(senderThreads, "notification-stream-");
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationListenerExecutor() {
+        return fixedPool(1, "notification-listener-");
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor patientDashboardExecutor(@Value("${dashboard.patient.parallelism:4}") int parallelism) {
+        return fixedPool(parallelism, "patient-dashboard-");
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor backgroundJobExecutor() {
+        return fixedPool(2, "background-job-");
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor scheduleMaterializationExecutor(@Value("${schedule.materialization.parallelism:4}") int parallelism) {
+        return fixedPool(parallelism, "schedule-materialization-");
+    }
+
+    private static ThreadPoolTaskExecutor fixedPool(int size, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, size));
+        executor.setMaxPoolSize(Math.max(1, size));
+        executor.setThreadNamePrefix(threadNamePrefix);
+        return executor;
+    }
+}
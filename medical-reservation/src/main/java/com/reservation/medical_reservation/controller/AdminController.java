@@ -1,18 +1,36 @@
 package com.reservation.medical_reservation.controller;
 
 import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.AppointmentPageDTO;
+import com.reservation.medical_reservation.model.dto.DailyStatisticsDTO;
 import com.reservation.medical_reservation.model.dto.DoctorRequestDTO;
 import com.reservation.medical_reservation.model.dto.DoctorRatingDTO;
+import com.reservation.medical_reservation.model.dto.MaterializationRunDTO;
+import com.reservation.medical_reservation.model.dto.NotificationOutboxStatsDTO;
+import com.reservation.medical_reservation.model.dto.RetentionRunDTO;
 import com.reservation.medical_reservation.model.dto.UserDTO;
+import com.reservation.medical_reservation.model.enums.ExportFormat;
 import com.reservation.medical_reservation.service.AdminService;
 import com.reservation.medical_reservation.service.DoctorRatingService;
+import com.reservation.medical_reservation.service.ExportService;
+import com.reservation.medical_reservation.service.NotificationOutboxService;
+import com.reservation.medical_reservation.service.NotificationRetentionService;
+import com.reservation.medical_reservation.service.NotificationService;
+import com.reservation.medical_reservation.service.ScheduleMaterializationService;
+import com.reservation.medical_reservation.service.StatisticsService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,10 +42,28 @@ public class AdminController {
 
     private final AdminService adminService;
     private final DoctorRatingService doctorRatingService;
+    private final ScheduleMaterializationService scheduleMaterializationService;
+    private final ExportService exportService;
+    private final StatisticsService statisticsService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationService notificationService;
+    private final NotificationRetentionService notificationRetentionService;
 
-    public AdminController(AdminService adminService, DoctorRatingService doctorRatingService) {
+    public AdminController(AdminService adminService, DoctorRatingService doctorRatingService,
+                           ScheduleMaterializationService scheduleMaterializationService,
+                           ExportService exportService,
+                           StatisticsService statisticsService,
+                           NotificationOutboxService notificationOutboxService,
+                           NotificationService notificationService,
+                           NotificationRetentionService notificationRetentionService) {
         this.adminService = adminService;
         this.doctorRatingService = doctorRatingService;
+        this.scheduleMaterializationService = scheduleMaterializationService;
+        this.exportService = exportService;
+        this.statisticsService = statisticsService;
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationService = notificationService;
+        this.notificationRetentionService = notificationRetentionService;
     }
 
     @GetMapping("/users")
@@ -103,6 +139,26 @@ public class AdminController {
         return ResponseEntity.ok(appointments);
     }
 
+    @GetMapping("/appointments/page")
+    public ResponseEntity<AppointmentPageDTO> getAppointmentsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        AppointmentPageDTO page = adminService.getAppointmentsPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/export/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return exportResponse("users", exportFormat, out -> exportService.exportUsers(exportFormat, out));
+    }
+
+    @GetMapping("/export/appointments")
+    public ResponseEntity<StreamingResponseBody> exportAppointments(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return exportResponse("appointments", exportFormat, out -> exportService.exportAppointments(exportFormat, out));
+    }
+
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Long>> getStatistics() {
         Map<String, Long> stats = new HashMap<>();
@@ -137,6 +193,21 @@ public class AdminController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/statistics/daily")
+    public ResponseEntity<List<DailyStatisticsDTO>> getDailyStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(statisticsService.getDailyStatistics(start, end));
+    }
+
+    @PostMapping("/statistics/reconcile")
+    public ResponseEntity<Void> reconcileStatistics() {
+        statisticsService.reconcile();
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/ratings")
     public ResponseEntity<Page<DoctorRatingDTO>> getAllRatings(
             @RequestParam(defaultValue = "0") int page,
@@ -157,4 +228,49 @@ public class AdminController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    @GetMapping("/schedule-materialization/last-run")
+    public ResponseEntity<MaterializationRunDTO> getLastScheduleMaterialization() {
+        return ResponseEntity.ok(scheduleMaterializationService.getLastRun());
+    }
+
+    @PostMapping("/schedule-materialization/run")
+    public ResponseEntity<Void> runScheduleMaterialization() {
+        if (!scheduleMaterializationService.startMaterialization()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/notification-retention/last-run")
+    public ResponseEntity<RetentionRunDTO> getLastNotificationRetention() {
+        return ResponseEntity.ok(notificationRetentionService.getLastRun());
+    }
+
+    @PostMapping("/notification-retention/run")
+    public ResponseEntity<Void> runNotificationRetention() {
+        if (!notificationRetentionService.startRetention()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/notification-outbox/stats")
+    public ResponseEntity<NotificationOutboxStatsDTO> getNotificationOutboxStats() {
+        return ResponseEntity.ok(notificationOutboxService.getStats());
+    }
+
+    @PostMapping("/notification-outbox/flush")
+    public ResponseEntity<NotificationOutboxStatsDTO> flushNotificationOutbox() {
+        notificationOutboxService.flush();
+        return ResponseEntity.ok(notificationOutboxService.getStats());
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                .body(body);
+    }
 }
@@ -1,6 +1,7 @@
 package com.reservation.medical_reservation.controller;
 
 import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.AppointmentPageDTO;
 import com.reservation.medical_reservation.model.enums.AppointmentStatus;
 import com.reservation.medical_reservation.service.AppointmentService;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -43,6 +44,26 @@ public class AppointmentController {
         return ResponseEntity.ok(appointments);
     }
 
+    @GetMapping("/patient/{patientId}/page")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<AppointmentPageDTO> getPatientAppointmentsPage(
+            @PathVariable Long patientId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        AppointmentPageDTO page = appointmentService.getPatientAppointmentsPage(patientId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/doctor/{doctorId}/page")
+    @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
+    public ResponseEntity<AppointmentPageDTO> getDoctorAppointmentsPage(
+            @PathVariable Long doctorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        AppointmentPageDTO page = appointmentService.getDoctorAppointmentsPage(doctorId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/patient/{patientId}/upcoming")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<List<AppointmentDTO>> getUpcomingPatientAppointments(@PathVariable Long patientId) {
@@ -1,13 +1,12 @@
 package com.reservation.medical_reservation.controller;
 
 import com.reservation.medical_reservation.model.dto.DoctorDTO;
+import com.reservation.medical_reservation.model.dto.DoctorDashboardDTO;
 import com.reservation.medical_reservation.model.dto.DoctorPatientDTO;
-import com.reservation.medical_reservation.model.dto.AppointmentDTO;
 import com.reservation.medical_reservation.model.dto.UserDTO;
 import com.reservation.medical_reservation.model.dto.MedicalHistoryDTO;
-import com.reservation.medical_reservation.model.enums.AppointmentStatus;
 import com.reservation.medical_reservation.service.DoctorService;
-import com.reservation.medical_reservation.service.AppointmentService;
+import com.reservation.medical_reservation.service.DoctorDashboardService;
 import com.reservation.medical_reservation.service.MedicalHistoryService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,21 +14,20 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 
 @RestController
 @RequestMapping("/api/doctors")
 public class DoctorController {
 
     private final DoctorService doctorService;
-    private final AppointmentService appointmentService;
     private final MedicalHistoryService medicalHistoryService;
+    private final DoctorDashboardService doctorDashboardService;
 
-    public DoctorController(DoctorService doctorService, AppointmentService appointmentService, MedicalHistoryService medicalHistoryService) {
+    public DoctorController(DoctorService doctorService, MedicalHistoryService medicalHistoryService,
+                            DoctorDashboardService doctorDashboardService) {
         this.doctorService = doctorService;
-        this.appointmentService = appointmentService;
         this.medicalHistoryService = medicalHistoryService;
+        this.doctorDashboardService = doctorDashboardService;
     }
 
     @GetMapping
@@ -118,24 +116,8 @@ public class DoctorController {
 
     @GetMapping("/{doctorId}/dashboard")
     @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
-    public ResponseEntity<Map<String, Object>> getDoctorDashboard(@PathVariable Long doctorId) {
-        Map<String, Object> dashboard = new HashMap<>();
-
-        List<AppointmentDTO> todayAppointments = appointmentService.getDoctorAppointmentsForToday(doctorId);
-        dashboard.put("todayAppointments", todayAppointments);
-
-        List<AppointmentDTO> upcomingAppointments = appointmentService.getUpcomingAppointmentsByDoctor(doctorId);
-        dashboard.put("upcomingAppointments", upcomingAppointments);
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("todayAppointmentsCount", todayAppointments.size());
-        stats.put("upcomingPatientsCount", upcomingAppointments.size());
-        stats.put("confirmedAppointments", appointmentService.countDoctorAppointmentsByStatus(doctorId, AppointmentStatus.CONFIRMED));
-        stats.put("pendingAppointments", appointmentService.countDoctorAppointmentsByStatus(doctorId, AppointmentStatus.PENDING));
-        
-        dashboard.put("statistics", stats);
-        
-        return ResponseEntity.ok(dashboard);
+    public ResponseEntity<DoctorDashboardDTO> getDoctorDashboard(@PathVariable Long doctorId) {
+        return ResponseEntity.ok(doctorDashboardService.getDashboard(doctorId));
     }
 
     @GetMapping("/{doctorId}/patients")
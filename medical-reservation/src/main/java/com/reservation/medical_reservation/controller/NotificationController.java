@@ -1,10 +1,21 @@
 package com.reservation.medical_reservation.controller;
 
 import com.reservation.medical_reservation.model.dto.NotificationDTO;
+import com.reservation.medical_reservation.model.dto.StreamTicketDTO;
+import com.reservation.medical_reservation.security.JwtTokenProvider;
+import com.reservation.medical_reservation.security.UserPrincipal;
 import com.reservation.medical_reservation.service.NotificationService;
+import com.reservation.medical_reservation.service.NotificationStreamService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -13,9 +24,29 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
+    private final JwtTokenProvider jwtTokenProvider;
 
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService,
+                                  NotificationStreamService notificationStreamService,
+                                  JwtTokenProvider jwtTokenProvider) {
         this.notificationService = notificationService;
+        this.notificationStreamService = notificationStreamService;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    @PostMapping("/stream-ticket")
+    @PreAuthorize("hasRole('USER') or hasRole('DOCTOR') or hasRole('ADMIN')")
+    public ResponseEntity<StreamTicketDTO> createStreamTicket() {
+        UserPrincipal principal = getCurrentUser();
+        String ticket = jwtTokenProvider.generateStreamTicket(principal.getUsername(), principal.getRole(), principal.getId());
+        return ResponseEntity.ok(new StreamTicketDTO(ticket, jwtTokenProvider.getStreamTicketExpirationMs()));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('DOCTOR') or hasRole('ADMIN')")
+    public SseEmitter streamNotifications() {
+        return notificationStreamService.subscribe(getCurrentUserId());
     }
 
     @GetMapping("/user/{userId}")
@@ -25,6 +56,17 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/user/{userId}/page")
+    @PreAuthorize("hasRole('USER') or hasRole('DOCTOR') or hasRole('ADMIN')")
+    public ResponseEntity<Page<NotificationDTO>> getUserNotificationsPage(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<NotificationDTO> notifications = notificationService.getNotificationsPage(userId, pageable);
+        return ResponseEntity.ok(notifications);
+    }
+
     @GetMapping("/user/{userId}/unread")
     @PreAuthorize("hasRole('USER') or hasRole('DOCTOR') or hasRole('ADMIN')")
     public ResponseEntity<List<NotificationDTO>> getUnreadNotifications(@PathVariable Long userId) {
@@ -55,6 +97,15 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/user/{userId}/read")
+    @PreAuthorize("hasRole('USER') or hasRole('DOCTOR') or hasRole('ADMIN')")
+    public ResponseEntity<Integer> markNotificationsAsRead(
+            @PathVariable Long userId,
+            @RequestBody List<Long> notificationIds) {
+        int updated = notificationService.markAsRead(notificationIds, userId);
+        return ResponseEntity.ok(updated);
+    }
+
     @PatchMapping("/user/{userId}/mark-all-read")
     @PreAuthorize("hasRole('USER') or hasRole('DOCTOR') or hasRole('ADMIN')")
     public ResponseEntity<Void> markAllNotificationsAsRead(@PathVariable Long userId) {
@@ -77,4 +128,16 @@ public class NotificationController {
         notificationService.deleteNotification(notificationId, userId);
         return ResponseEntity.ok().build();
     }
+
+    private Long getCurrentUserId() {
+        return getCurrentUser().getId();
+    }
+
+    private UserPrincipal getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            return (UserPrincipal) authentication.getPrincipal();
+        }
+        throw new IllegalStateException("User not authenticated");
+    }
 }
@@ -3,17 +3,16 @@ package com.reservation.medical_reservation.controller;
 import com.reservation.medical_reservation.model.dto.AppointmentDTO;
 import com.reservation.medical_reservation.model.dto.DoctorDTO;
 import com.reservation.medical_reservation.model.dto.NotificationDTO;
-import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.dto.PatientDashboardDTO;
 import com.reservation.medical_reservation.service.AppointmentService;
 import com.reservation.medical_reservation.service.DoctorService;
 import com.reservation.medical_reservation.service.NotificationService;
+import com.reservation.medical_reservation.service.PatientDashboardService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 
 @RestController
 @RequestMapping("/api/patient")
@@ -23,13 +22,16 @@ public class PatientController {
     private final DoctorService doctorService;
     private final AppointmentService appointmentService;
     private final NotificationService notificationService;
+    private final PatientDashboardService patientDashboardService;
 
     public PatientController(DoctorService doctorService, 
                            AppointmentService appointmentService,
-                           NotificationService notificationService) {
+                           NotificationService notificationService,
+                           PatientDashboardService patientDashboardService) {
         this.doctorService = doctorService;
         this.appointmentService = appointmentService;
         this.notificationService = notificationService;
+        this.patientDashboardService = patientDashboardService;
     }
 
     @GetMapping("/doctors")
@@ -100,31 +102,8 @@ public class PatientController {
     }
 
     @GetMapping("/{patientId}/dashboard")
-    public ResponseEntity<Map<String, Object>> getPatientDashboard(@PathVariable Long patientId) {
-        Map<String, Object> dashboard = new HashMap<>();
-
-        AppointmentDTO nextAppointment = appointmentService.getNextAppointmentByPatient(patientId);
-        dashboard.put("nextAppointment", nextAppointment);
-
-        List<AppointmentDTO> recentAppointments = appointmentService.getPatientAppointments(patientId)
-                .stream()
-                .filter(apt -> apt.getStatus() == AppointmentStatus.COMPLETED)
-                .limit(5)
-                .toList();
-        dashboard.put("recentAppointments", recentAppointments);
-
-        List<AppointmentDTO> todayAppointments = appointmentService.getPatientAppointmentsForToday(patientId);
-        dashboard.put("todayAppointments", todayAppointments);
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("completedAppointments", appointmentService.countPatientAppointmentsByStatus(patientId, AppointmentStatus.COMPLETED));
-        stats.put("upcomingAppointments", appointmentService.getUpcomingAppointmentsByPatient(patientId).size());
-        stats.put("pendingAppointments", appointmentService.countPatientAppointmentsByStatus(patientId, AppointmentStatus.PENDING));
-        stats.put("unreadNotifications", notificationService.getUnreadNotifications(patientId).size());
-        
-        dashboard.put("statistics", stats);
-        
-        return ResponseEntity.ok(dashboard);
+    public ResponseEntity<PatientDashboardDTO> getPatientDashboard(@PathVariable Long patientId) {
+        return ResponseEntity.ok(patientDashboardService.getDashboard(patientId));
     }
 
     @GetMapping("/doctors/search")
@@ -2,6 +2,7 @@ package com.reservation.medical_reservation.controller;
 
 import com.reservation.medical_reservation.model.dto.ScheduleDTO;
 import com.reservation.medical_reservation.model.dto.BulkDeleteRequest;
+import com.reservation.medical_reservation.model.dto.SlotGenerationResultDTO;
 import com.reservation.medical_reservation.service.ScheduleService;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +46,15 @@ public class ScheduleController {
         return ResponseEntity.ok(availableSlots);
     }
 
+    @GetMapping("/available-days/{doctorId}")
+    public ResponseEntity<List<LocalDate>> getAvailableDays(
+            @PathVariable Long doctorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<LocalDate> availableDays = scheduleService.getAvailableDays(doctorId, startDate, endDate);
+        return ResponseEntity.ok(availableDays);
+    }
+
     @PutMapping("/{scheduleId}")
     @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
     public ResponseEntity<ScheduleDTO> updateSchedule(
@@ -96,12 +106,12 @@ public class ScheduleController {
 
     @PostMapping("/doctor/{doctorId}/generate-from-availability")
     @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
-    public ResponseEntity<Void> generateScheduleFromAvailability(
+    public ResponseEntity<SlotGenerationResultDTO> generateScheduleFromAvailability(
             @PathVariable Long doctorId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        scheduleService.generateScheduleFromAvailability(doctorId, startDate, endDate);
-        return ResponseEntity.ok().build();
+        SlotGenerationResultDTO result = scheduleService.generateScheduleFromAvailability(doctorId, startDate, endDate);
+        return ResponseEntity.ok(result);
     }
 
     @PostMapping("/delete-multiple")
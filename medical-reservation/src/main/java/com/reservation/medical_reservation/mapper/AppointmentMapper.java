@@ -0,0 +1,86 @@
+package com.reservation.medical_reservation.mapper;
+
+import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.AppointmentPageDTO;
+import com.reservation.medical_reservation.model.entity.AppointmentEntity;
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.model.entity.UserEntity;
+import com.reservation.medical_reservation.model.projection.AppointmentRow;
+import com.reservation.medical_reservation.util.AppointmentCursor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+@Component
+public class AppointmentMapper {
+
+    public AppointmentDTO toDTO(AppointmentEntity appointment) {
+        AppointmentDTO dto = new AppointmentDTO();
+        dto.setId(appointment.getId());
+        dto.setAppointmentTime(appointment.getAppointmentTime());
+        dto.setEndTime(appointment.getEndTime());
+        dto.setStatus(appointment.getStatus());
+        dto.setNotes(appointment.getNotes());
+        dto.setCancellationReason(appointment.getCancellationReason());
+
+        UserEntity patient = appointment.getPatient();
+        dto.setPatientId(patient.getId());
+        dto.setPatientName(patient.getFullName());
+        dto.setPatientEmail(patient.getEmail());
+        dto.setPatientPhone(patient.getPhoneNumber() != null ? patient.getPhoneNumber() : "");
+
+        dto.setPatientAge(ageOf(patient.getDateOfBirth()));
+
+        DoctorEntity doctor = appointment.getDoctor();
+        dto.setDoctorId(doctor.getId());
+        dto.setDoctorName(doctor.getUser().getFullName());
+        dto.setDoctorSpecialization(doctor.getSpecialization());
+        dto.setDoctorLocation(doctor.getLocation());
+        dto.setConsultationFee(doctor.getPrice());
+
+        if (appointment.getService() != null) {
+            dto.setServiceId(appointment.getService().getId());
+            dto.setServiceName(appointment.getService().getName());
+        }
+
+        return dto;
+    }
+
+    public AppointmentDTO toDTO(AppointmentRow row) {
+        return new AppointmentDTO(
+                row.id(),
+                row.patientId(),
+                row.patientName(),
+                row.patientEmail(),
+                row.patientPhone() != null ? row.patientPhone() : "",
+                ageOf(row.patientDateOfBirth()),
+                row.doctorId(),
+                row.doctorName(),
+                row.doctorSpecialization(),
+                row.serviceId(),
+                row.serviceName(),
+                row.appointmentTime(),
+                row.endTime(),
+                row.status(),
+                row.notes(),
+                row.cancellationReason(),
+                row.doctorLocation(),
+                row.consultationFee());
+    }
+
+    public AppointmentPageDTO toPage(List<AppointmentRow> rows, int pageSize) {
+        List<AppointmentRow> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            AppointmentRow last = page.get(page.size() - 1);
+            nextCursor = new AppointmentCursor(last.appointmentTime(), last.id()).encode();
+        }
+        return new AppointmentPageDTO(page.stream().map(this::toDTO).toList(), nextCursor);
+    }
+
+    private Integer ageOf(LocalDate dateOfBirth) {
+        return dateOfBirth != null ? Period.between(dateOfBirth, LocalDate.now()).getYears() : null;
+    }
+}
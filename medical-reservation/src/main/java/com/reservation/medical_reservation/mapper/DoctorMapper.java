@@ -0,0 +1,32 @@
+package com.reservation.medical_reservation.mapper;
+
+import com.reservation.medical_reservation.model.dto.DoctorDTO;
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.model.entity.UserEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DoctorMapper {
+
+    public DoctorDTO toDTO(DoctorEntity doctor) {
+        UserEntity user = doctor.getUser();
+
+        DoctorDTO dto = new DoctorDTO();
+        dto.setId(doctor.getId());
+        dto.setUserId(user.getId());
+        dto.setFullName(user.getFullName());
+        dto.setEmail(user.getEmail());
+        dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setSpecialization(doctor.getSpecialization());
+        dto.setBio(doctor.getBio());
+        dto.setLicenseNumber(doctor.getLicenseNumber());
+        dto.setEducation(doctor.getEducation());
+        dto.setExperience(doctor.getExperience());
+        dto.setRating(doctor.getRating());
+        dto.setTotalRatings(doctor.getTotalRatings());
+        dto.setIsActive(doctor.getIsActive());
+        dto.setPrice(doctor.getPrice());
+        dto.setLocation(doctor.getLocation());
+        return dto;
+    }
+}
@@ -0,0 +1,21 @@
+package com.reservation.medical_reservation.mapper;
+
+import com.reservation.medical_reservation.model.dto.DoctorRatingDTO;
+import com.reservation.medical_reservation.model.entity.DoctorRatingEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DoctorRatingMapper {
+
+    public DoctorRatingDTO toDTO(DoctorRatingEntity rating) {
+        return new DoctorRatingDTO(
+                rating.getId(),
+                rating.getDoctor().getId(),
+                rating.getUser().getId(),
+                rating.getUser().getFullName(),
+                rating.getRating(),
+                rating.getComment(),
+                rating.getCreatedAt(),
+                rating.getUpdatedAt());
+    }
+}
@@ -0,0 +1,19 @@
+package com.reservation.medical_reservation.mapper;
+
+import com.reservation.medical_reservation.model.dto.NotificationDTO;
+import com.reservation.medical_reservation.model.entity.NotificationEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationMapper {
+
+    public NotificationDTO toDTO(NotificationEntity notification) {
+        return new NotificationDTO(
+                notification.getId(),
+                notification.getTitle(),
+                notification.getMessage(),
+                notification.getType(),
+                notification.isRead(),
+                notification.getCreatedAt());
+    }
+}
@@ -0,0 +1,29 @@
+package com.reservation.medical_reservation.mapper;
+
+import com.reservation.medical_reservation.model.dto.UserDTO;
+import com.reservation.medical_reservation.model.entity.UserEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserMapper {
+
+    public UserDTO toDTO(UserEntity user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setEmail(user.getEmail());
+        dto.setFullName(user.getFullName());
+        dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setPhone(user.getPhoneNumber());
+        dto.setDateOfBirth(user.getDateOfBirth());
+        dto.setGender(user.getGender());
+        dto.setAddress(user.getAddress());
+        dto.setEmergencyPhone(user.getEmergencyPhone());
+        dto.setBloodType(user.getBloodType());
+        dto.setIsActive(user.getIsActive());
+        dto.setDeactivationType(user.getDeactivationType());
+        dto.setLastLogin(user.getLastLogin());
+        dto.setCreatedAt(user.getCreatedAt());
+        dto.setRole(user.getRole().getName().toString());
+        return dto;
+    }
+}
@@ -0,0 +1,19 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatisticsDTO {
+    private LocalDate date;
+    private Map<String, Long> appointmentsByStatus;
+    private Map<String, Long> appointmentsBySpecialization;
+    private long newUsers;
+    private long newRatings;
+}
@@ -0,0 +1,16 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorDashboardDTO {
+    private List<AppointmentDTO> todayAppointments;
+    private List<AppointmentDTO> upcomingAppointments;
+    private DoctorDashboardStatsDTO statistics;
+}
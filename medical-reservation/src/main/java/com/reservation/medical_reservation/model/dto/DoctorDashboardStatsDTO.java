@@ -0,0 +1,15 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorDashboardStatsDTO {
+    private long todayAppointmentsCount;
+    private long upcomingPatientsCount;
+    private long confirmedAppointments;
+    private long pendingAppointments;
+}
@@ -0,0 +1,22 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterializationRunDTO {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDate horizonEnd;
+    private int doctorsProcessed;
+    private int doctorsFailed;
+    private int slotsGenerated;
+    private int slotsSkipped;
+    private long durationMs;
+}
@@ -0,0 +1,22 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutboxStatsDTO {
+    private boolean enabled;
+    private long queueDepth;
+    private long enqueued;
+    private long written;
+    private long dropped;
+    private long batches;
+    private int lastBatchSize;
+    private double averageBatchSize;
+    private long lastFlushMs;
+    private long maxFlushMs;
+    private double averageFlushMs;
+}
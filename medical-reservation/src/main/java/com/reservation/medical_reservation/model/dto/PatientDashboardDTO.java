@@ -0,0 +1,17 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientDashboardDTO {
+    private AppointmentDTO nextAppointment;
+    private List<AppointmentDTO> recentAppointments;
+    private List<AppointmentDTO> todayAppointments;
+    private PatientDashboardStatsDTO statistics;
+}
@@ -0,0 +1,15 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientDashboardStatsDTO {
+    private long completedAppointments;
+    private long upcomingAppointments;
+    private long pendingAppointments;
+    private long unreadNotifications;
+}
@@ -0,0 +1,20 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetentionRunDTO {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int readArchived;
+    private int chunks;
+    private int partitionsCreated;
+    private int partitionsDropped;
+    private long durationMs;
+}
@@ -0,0 +1,14 @@
+package com.reservation.medical_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotGenerationResultDTO {
+    private int generatedCount;
+    private int skippedCount;
+    private long durationMs;
+}
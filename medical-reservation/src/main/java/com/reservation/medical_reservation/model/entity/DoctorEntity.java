@@ -10,12 +10,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "doctors")
+@NamedEntityGraph(name = "DoctorEntity.user", attributeNodes = @NamedAttributeNode("user"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class DoctorEntity extends BaseEntity {
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
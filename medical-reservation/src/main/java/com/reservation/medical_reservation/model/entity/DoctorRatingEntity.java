@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @Table(name = "doctor_ratings", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"doctor_id", "user_id"})
 })
+@NamedEntityGraph(name = "DoctorRatingEntity.user", attributeNodes = @NamedAttributeNode("user"))
 @Getter
 @Setter
 @NoArgsConstructor
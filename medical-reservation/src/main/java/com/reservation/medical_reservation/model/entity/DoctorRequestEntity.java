@@ -11,13 +11,15 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "doctor_requests")
+@NamedEntityGraph(name = "DoctorRequestEntity.details",
+        attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("reviewedBy")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class DoctorRequestEntity extends BaseEntity {
     
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
     
@@ -43,7 +45,7 @@ public class DoctorRequestEntity extends BaseEntity {
     @Column(length = 500)
     private String rejectionReason;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reviewed_by")
     private UserEntity reviewedBy;
     
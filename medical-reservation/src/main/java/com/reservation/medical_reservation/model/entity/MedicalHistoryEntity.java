@@ -10,21 +10,27 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "medical_history")
+@NamedEntityGraph(name = "MedicalHistoryEntity.details",
+        attributeNodes = {
+                @NamedAttributeNode("patient"),
+                @NamedAttributeNode(value = "doctor", subgraph = "doctor")
+        },
+        subgraphs = @NamedSubgraph(name = "doctor", attributeNodes = @NamedAttributeNode("user")))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class MedicalHistoryEntity extends BaseEntity {
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", nullable = false)
     private UserEntity patient;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "doctor_id", nullable = false)
     private DoctorEntity doctor;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appointment_id")
     private AppointmentEntity appointment;
     
@@ -21,7 +21,7 @@ public class PatientProfileEntity {
     @Id
     private Long id;
     
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @MapsId
     @JoinColumn(name = "user_id")
     private UserEntity user;
@@ -11,13 +11,23 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reschedule_requests")
+@NamedEntityGraph(name = "RescheduleRequestEntity.details",
+        attributeNodes = @NamedAttributeNode(value = "appointment", subgraph = "appointment"),
+        subgraphs = {
+                @NamedSubgraph(name = "appointment", attributeNodes = {
+                        @NamedAttributeNode("patient"),
+                        @NamedAttributeNode(value = "doctor", subgraph = "doctor"),
+                        @NamedAttributeNode("service")
+                }),
+                @NamedSubgraph(name = "doctor", attributeNodes = @NamedAttributeNode("user"))
+        })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class RescheduleRequestEntity extends BaseEntity {
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appointment_id", nullable = false)
     private AppointmentEntity appointment;
     
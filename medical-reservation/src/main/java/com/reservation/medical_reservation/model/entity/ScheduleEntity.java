@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 
 public class ScheduleEntity extends BaseEntity {
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "doctor_id", nullable = false)
     private DoctorEntity doctor;
 
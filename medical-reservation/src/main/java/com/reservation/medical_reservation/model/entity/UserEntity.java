@@ -49,6 +49,9 @@ public class UserEntity extends BaseEntity {
     @Column
     private LocalDateTime passwordResetTokenExpiration;
 
+    @Column(name = "unread_notifications", nullable = false, insertable = false, updatable = false)
+    private long unreadNotifications;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "role_id", nullable = false)
     private RoleEntity role;
@@ -0,0 +1,8 @@
+package com.reservation.medical_reservation.model.enums;
+
+public enum SlotAvailability {
+    FREE,
+    BOOKED,
+    BLOCKED,
+    NO_SCHEDULE_SLOT
+}
@@ -0,0 +1,9 @@
+package com.reservation.medical_reservation.model.enums;
+
+public enum StatisticsCounter {
+    USERS,
+    PATIENTS,
+    DOCTORS,
+    APPOINTMENTS,
+    RATINGS
+}
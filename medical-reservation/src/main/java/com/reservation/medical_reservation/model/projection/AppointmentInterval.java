@@ -0,0 +1,8 @@
+package com.reservation.medical_reservation.model.projection;
+
+import java.time.LocalDateTime;
+
+public record AppointmentInterval(Long id,
+                                  LocalDateTime startTime,
+                                  LocalDateTime endTime) {
+}
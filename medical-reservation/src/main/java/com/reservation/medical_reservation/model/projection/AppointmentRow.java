@@ -0,0 +1,26 @@
+package com.reservation.medical_reservation.model.projection;
+
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record AppointmentRow(Long id,
+                             Long patientId,
+                             String patientName,
+                             String patientEmail,
+                             String patientPhone,
+                             LocalDate patientDateOfBirth,
+                             Long doctorId,
+                             String doctorName,
+                             String doctorSpecialization,
+                             String doctorLocation,
+                             Integer consultationFee,
+                             Long serviceId,
+                             String serviceName,
+                             LocalDateTime appointmentTime,
+                             LocalDateTime endTime,
+                             AppointmentStatus status,
+                             String notes,
+                             String cancellationReason) {
+}
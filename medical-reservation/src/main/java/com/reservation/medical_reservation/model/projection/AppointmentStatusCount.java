@@ -0,0 +1,9 @@
+package com.reservation.medical_reservation.model.projection;
+
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+
+public record AppointmentStatusCount(AppointmentStatus status,
+                                     Long total,
+                                     Long upcoming,
+                                     Long today) {
+}
@@ -0,0 +1,8 @@
+package com.reservation.medical_reservation.model.projection;
+
+import java.time.LocalDate;
+
+public record DailyCount(LocalDate day,
+                         String key,
+                         Long total) {
+}
@@ -0,0 +1,7 @@
+package com.reservation.medical_reservation.model.projection;
+
+import java.time.LocalDate;
+
+public record DailyTotal(LocalDate day,
+                         Long total) {
+}
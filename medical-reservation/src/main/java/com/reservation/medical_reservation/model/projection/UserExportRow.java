@@ -0,0 +1,17 @@
+package com.reservation.medical_reservation.model.projection;
+
+import com.reservation.medical_reservation.model.enums.DeactivationType;
+import com.reservation.medical_reservation.model.enums.RoleName;
+
+import java.time.LocalDateTime;
+
+public record UserExportRow(Long id,
+                            String fullName,
+                            String email,
+                            String phoneNumber,
+                            RoleName role,
+                            Boolean isActive,
+                            DeactivationType deactivationType,
+                            LocalDateTime lastLogin,
+                            LocalDateTime createdAt) {
+}
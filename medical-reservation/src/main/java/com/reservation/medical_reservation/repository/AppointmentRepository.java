@@ -4,49 +4,140 @@ import com.reservation.medical_reservation.model.entity.AppointmentEntity;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
 import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.projection.AppointmentRow;
+import com.reservation.medical_reservation.model.projection.AppointmentInterval;
+import com.reservation.medical_reservation.model.projection.AppointmentStatusCount;
+import com.reservation.medical_reservation.model.projection.DailyCount;
+import com.reservation.medical_reservation.util.DayRange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<AppointmentEntity, Long> {
-    List<AppointmentEntity> findAllByOrderByAppointmentTimeDesc();
+    String APPOINTMENT_ROW = "SELECT new com.reservation.medical_reservation.model.projection.AppointmentRow(" +
+            "a.id, p.id, p.fullName, p.email, p.phoneNumber, pp.dateOfBirth, " +
+            "d.id, du.fullName, d.specialization, d.location, d.price, s.id, s.name, " +
+            "a.appointmentTime, a.endTime, a.status, a.notes, a.cancellationReason) " +
+            "FROM AppointmentEntity a JOIN a.patient p LEFT JOIN p.patientProfile pp " +
+            "JOIN a.doctor d JOIN d.user du LEFT JOIN a.service s ";
+
+    @EntityGraph("AppointmentEntity.details")
     List<AppointmentEntity> findByPatientOrderByAppointmentTimeDesc(UserEntity patient);
+    @EntityGraph("AppointmentEntity.details")
     List<AppointmentEntity> findByDoctorOrderByAppointmentTimeDesc(DoctorEntity doctor);
     
-    @Query("SELECT a FROM AppointmentEntity a LEFT JOIN FETCH a.patient p LEFT JOIN FETCH p.patientProfile WHERE a.doctor = :doctor ORDER BY a.appointmentTime DESC")
-    List<AppointmentEntity> findByDoctorWithPatientProfileOrderByAppointmentTimeDesc(@Param("doctor") DoctorEntity doctor);
+    @Query(APPOINTMENT_ROW + "ORDER BY a.appointmentTime DESC")
+    List<AppointmentRow> findAllRows();
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(APPOINTMENT_ROW + "ORDER BY a.id")
+    Stream<AppointmentRow> streamAllRows();
+    
+    @Query(APPOINTMENT_ROW + "WHERE (a.appointmentTime, a.id) < (:time, :id) " +
+           "ORDER BY a.appointmentTime DESC, a.id DESC")
+    List<AppointmentRow> findRowsBefore(@Param("time") LocalDateTime time, @Param("id") Long id, Limit limit);
+    
+    @Query(APPOINTMENT_ROW + "WHERE p.id = :patientId AND (a.appointmentTime, a.id) < (:time, :id) " +
+           "ORDER BY a.appointmentTime DESC, a.id DESC")
+    List<AppointmentRow> findRowsByPatientBefore(@Param("patientId") Long patientId, @Param("time") LocalDateTime time,
+                                                 @Param("id") Long id, Limit limit);
+    
+    @Query(APPOINTMENT_ROW + "WHERE d.id = :doctorId AND (a.appointmentTime, a.id) < (:time, :id) " +
+           "ORDER BY a.appointmentTime DESC, a.id DESC")
+    List<AppointmentRow> findRowsByDoctorBefore(@Param("doctorId") Long doctorId, @Param("time") LocalDateTime time,
+                                                @Param("id") Long id, Limit limit);
+    
+    @Query(APPOINTMENT_ROW + "WHERE p.id = :patientId ORDER BY a.appointmentTime DESC")
+    List<AppointmentRow> findRowsByPatient(@Param("patientId") Long patientId);
+    
+    @Query(APPOINTMENT_ROW + "WHERE d.id = :doctorId ORDER BY a.appointmentTime DESC")
+    List<AppointmentRow> findRowsByDoctor(@Param("doctorId") Long doctorId);
+    @EntityGraph("AppointmentEntity.details")
     List<AppointmentEntity> findByPatientAndStatusOrderByAppointmentTimeDesc(UserEntity patient, AppointmentStatus status);
+    @EntityGraph("AppointmentEntity.details")
     List<AppointmentEntity> findByDoctorAndStatusOrderByAppointmentTimeDesc(DoctorEntity doctor, AppointmentStatus status);
     boolean existsByPatientId(Long patientId);
     
-    @Query("SELECT a FROM AppointmentEntity a WHERE a.patient = :patient AND a.appointmentTime > :now ORDER BY a.appointmentTime ASC")
-    List<AppointmentEntity> findUpcomingAppointmentsByPatient(@Param("patient") UserEntity patient, @Param("now") LocalDateTime now);
+    @Query(APPOINTMENT_ROW + "WHERE d.id = :doctorId AND a.appointmentTime >= :from ORDER BY a.appointmentTime ASC")
+    List<AppointmentRow> findRowsByDoctorFrom(@Param("doctorId") Long doctorId, @Param("from") LocalDateTime from, Limit limit);
+    
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.AppointmentStatusCount(a.status, COUNT(a), " +
+           "SUM(CASE WHEN a.appointmentTime > :now THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.appointmentTime >= :dayStart AND a.appointmentTime < :dayEnd THEN 1 ELSE 0 END)) " +
+           "FROM AppointmentEntity a WHERE a.doctor.id = :doctorId GROUP BY a.status")
+    List<AppointmentStatusCount> countByStatusForDoctor(@Param("doctorId") Long doctorId,
+                                                        @Param("now") LocalDateTime now,
+                                                        @Param("dayStart") LocalDateTime dayStart,
+                                                        @Param("dayEnd") LocalDateTime dayEnd);
+    
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.AppointmentStatusCount(a.status, COUNT(a), " +
+           "SUM(CASE WHEN a.appointmentTime > :now THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.appointmentTime >= :dayStart AND a.appointmentTime < :dayEnd THEN 1 ELSE 0 END)) " +
+           "FROM AppointmentEntity a WHERE a.patient.id = :patientId GROUP BY a.status")
+    List<AppointmentStatusCount> countByStatusForPatient(@Param("patientId") Long patientId,
+                                                         @Param("now") LocalDateTime now,
+                                                         @Param("dayStart") LocalDateTime dayStart,
+                                                         @Param("dayEnd") LocalDateTime dayEnd);
+    
+    @Query(APPOINTMENT_ROW + "WHERE p.id = :patientId AND a.appointmentTime > :now ORDER BY a.appointmentTime ASC")
+    List<AppointmentRow> findUpcomingRowsByPatient(@Param("patientId") Long patientId, @Param("now") LocalDateTime now);
+    
+    @Query(APPOINTMENT_ROW + "WHERE p.id = :patientId AND a.appointmentTime > :now AND a.status = :status ORDER BY a.appointmentTime ASC")
+    List<AppointmentRow> findUpcomingRowsByPatientAndStatus(@Param("patientId") Long patientId, @Param("now") LocalDateTime now,
+                                                            @Param("status") AppointmentStatus status, Limit limit);
+    
+    @Query(APPOINTMENT_ROW + "WHERE p.id = :patientId AND a.status = :status ORDER BY a.appointmentTime DESC")
+    List<AppointmentRow> findRowsByPatientAndStatus(@Param("patientId") Long patientId, @Param("status") AppointmentStatus status, Limit limit);
+    
+    @Query(APPOINTMENT_ROW + "WHERE p.id = :patientId AND a.appointmentTime >= :from AND a.appointmentTime < :to ORDER BY a.appointmentTime ASC")
+    List<AppointmentRow> findRowsByPatientBetween(@Param("patientId") Long patientId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
     
-    @Query("SELECT a FROM AppointmentEntity a WHERE a.doctor = :doctor AND a.appointmentTime > :now ORDER BY a.appointmentTime ASC")
-    List<AppointmentEntity> findUpcomingAppointmentsByDoctor(@Param("doctor") DoctorEntity doctor, @Param("now") LocalDateTime now);
+    @Query(APPOINTMENT_ROW + "WHERE d.id = :doctorId AND a.appointmentTime > :now ORDER BY a.appointmentTime ASC")
+    List<AppointmentRow> findUpcomingRowsByDoctor(@Param("doctorId") Long doctorId, @Param("now") LocalDateTime now);
     
+    @EntityGraph("AppointmentEntity.details")
     @Query("SELECT a FROM AppointmentEntity a WHERE a.patient = :patient AND a.appointmentTime > :now AND a.status = :status ORDER BY a.appointmentTime ASC LIMIT 1")
     Optional<AppointmentEntity> findNextAppointmentByPatient(@Param("patient") UserEntity patient, @Param("now") LocalDateTime now, @Param("status") AppointmentStatus status);
     
-    @Query("SELECT a FROM AppointmentEntity a WHERE a.doctor = :doctor AND DATE(a.appointmentTime) = DATE(:date) ORDER BY a.appointmentTime")
-    List<AppointmentEntity> findByDoctorAndDate(@Param("doctor") DoctorEntity doctor, @Param("date") LocalDateTime date);
+    @EntityGraph("AppointmentEntity.details")
+    @Query("SELECT a FROM AppointmentEntity a WHERE a.doctor = :doctor AND " +
+           "a.appointmentTime >= :from AND a.appointmentTime < :to ORDER BY a.appointmentTime ASC")
+    List<AppointmentEntity> findByDoctorAndAppointmentTimeRange(@Param("doctor") DoctorEntity doctor, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    @EntityGraph("AppointmentEntity.details")
+    @Query("SELECT a FROM AppointmentEntity a WHERE a.patient = :patient AND " +
+           "a.appointmentTime >= :from AND a.appointmentTime < :to ORDER BY a.appointmentTime ASC")
+    List<AppointmentEntity> findByPatientAndAppointmentTimeRange(@Param("patient") UserEntity patient, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    default List<AppointmentEntity> findByDoctorAndDay(DoctorEntity doctor, DayRange day) {
+        return findByDoctorAndAppointmentTimeRange(doctor, day.start(), day.end());
+    }
+    
+    default List<AppointmentEntity> findByPatientAndDay(UserEntity patient, DayRange day) {
+        return findByPatientAndAppointmentTimeRange(patient, day.start(), day.end());
+    }
     
     @Query("SELECT a FROM AppointmentEntity a WHERE a.doctor = :doctor AND a.status != 'CANCELLED' AND " +
            "((a.appointmentTime < :endTime AND a.endTime > :startTime))")
     List<AppointmentEntity> findConflictingAppointments(@Param("doctor") DoctorEntity doctor, @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
     
-    @Query("SELECT a FROM AppointmentEntity a WHERE a.doctor = :doctor AND DATE(a.appointmentTime) = DATE(:today) ORDER BY a.appointmentTime ASC")
-    List<AppointmentEntity> findDoctorAppointmentsForToday(@Param("doctor") DoctorEntity doctor, @Param("today") LocalDateTime today);
-    
-    @Query("SELECT a FROM AppointmentEntity a WHERE a.patient = :patient AND DATE(a.appointmentTime) = DATE(:today) ORDER BY a.appointmentTime ASC")
-    List<AppointmentEntity> findPatientAppointmentsForToday(@Param("patient") UserEntity patient, @Param("today") LocalDateTime today);
-    
     @Query("SELECT COUNT(a) FROM AppointmentEntity a WHERE a.patient = :patient AND a.status = :status")
     long countPatientAppointmentsByStatus(@Param("patient") UserEntity patient, @Param("status") AppointmentStatus status);
     
@@ -67,6 +158,36 @@ public interface AppointmentRepository extends JpaRepository<AppointmentEntity,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime);
     
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.AppointmentInterval(a.id, a.appointmentTime, a.endTime) " +
+           "FROM AppointmentEntity a WHERE a.doctor.id = :doctorId AND a.appointmentTime >= :from AND " +
+           "a.status != 'CANCELLED' ORDER BY a.appointmentTime")
+    List<AppointmentInterval> findActiveIntervalsByDoctorFrom(@Param("doctorId") Long doctorId,
+                                                              @Param("from") LocalDateTime from);
+    
+    @Query("SELECT DISTINCT a FROM AppointmentEntity a JOIN FETCH a.patient JOIN FETCH a.doctor LEFT JOIN FETCH a.service, ScheduleEntity s " +
+           "WHERE s.id IN :scheduleIds AND a.doctor = s.doctor AND a.status != 'CANCELLED' AND " +
+           "a.appointmentTime < s.endTime AND a.endTime > s.startTime")
+    List<AppointmentEntity> findConflictingWithSchedules(@Param("scheduleIds") Collection<Long> scheduleIds);
+    
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.DailyCount(" +
+           "CAST(a.appointmentTime AS LocalDate), CAST(a.status AS String), COUNT(a)) " +
+           "FROM AppointmentEntity a WHERE a.appointmentTime >= :from " +
+           "GROUP BY CAST(a.appointmentTime AS LocalDate), a.status")
+    List<DailyCount> countPerDayByStatus(@Param("from") LocalDateTime from);
+    
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.DailyCount(" +
+           "CAST(a.appointmentTime AS LocalDate), d.specialization, COUNT(a)) " +
+           "FROM AppointmentEntity a JOIN a.doctor d WHERE a.appointmentTime >= :from " +
+           "GROUP BY CAST(a.appointmentTime AS LocalDate), d.specialization")
+    List<DailyCount> countPerDayBySpecialization(@Param("from") LocalDateTime from);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AppointmentEntity a SET a.status = :status, a.cancellationReason = :reason, a.updatedAt = :now WHERE a.id IN :ids")
+    int updateStatusForIds(@Param("ids") Collection<Long> ids,
+                           @Param("status") AppointmentStatus status,
+                           @Param("reason") String reason,
+                           @Param("now") LocalDateTime now);
+    
     void deleteByPatient(UserEntity patient);
     
     void deleteByDoctor(DoctorEntity doctor);
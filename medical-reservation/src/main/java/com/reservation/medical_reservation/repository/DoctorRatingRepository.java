@@ -3,13 +3,16 @@ package com.reservation.medical_reservation.repository;
 import com.reservation.medical_reservation.model.entity.DoctorRatingEntity;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
+import com.reservation.medical_reservation.model.projection.DailyTotal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,14 +21,18 @@ public interface DoctorRatingRepository extends JpaRepository<DoctorRatingEntity
     
     Optional<DoctorRatingEntity> findByDoctorAndUser(DoctorEntity doctor, UserEntity user);
     
+    @EntityGraph("DoctorRatingEntity.user")
     Optional<DoctorRatingEntity> findByDoctorIdAndUserId(Long doctorId, Long userId);
 
+    @EntityGraph("DoctorRatingEntity.user")
     List<DoctorRatingEntity> findByDoctorIdOrderByCreatedAtDesc(Long doctorId);
     
+    @EntityGraph("DoctorRatingEntity.user")
     List<DoctorRatingEntity> findByUserOrderByCreatedAtDesc(UserEntity user);
     
     List<DoctorRatingEntity> findByDoctor(DoctorEntity doctor);
     
+    @EntityGraph("DoctorRatingEntity.user")
     Page<DoctorRatingEntity> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
     @Query("SELECT AVG(r.rating) FROM DoctorRatingEntity r WHERE r.doctor.id = :doctorId")
@@ -36,6 +43,11 @@ public interface DoctorRatingRepository extends JpaRepository<DoctorRatingEntity
     
     boolean existsByDoctorIdAndUserId(Long doctorId, Long userId);
     
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.DailyTotal(" +
+           "CAST(r.createdAt AS LocalDate), COUNT(r)) FROM DoctorRatingEntity r WHERE r.createdAt >= :from " +
+           "GROUP BY CAST(r.createdAt AS LocalDate)")
+    List<DailyTotal> countCreatedPerDay(@Param("from") LocalDateTime from);
+    
     void deleteByDoctor(DoctorEntity doctor);
     
     void deleteByUser(UserEntity user);
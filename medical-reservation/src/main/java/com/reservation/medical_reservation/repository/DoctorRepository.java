@@ -2,6 +2,7 @@ package com.reservation.medical_reservation.repository;
 
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,25 +13,37 @@ import java.util.Optional;
 
 @Repository
 public interface DoctorRepository extends JpaRepository<DoctorEntity, Long> {
+    @Override
+    @EntityGraph("DoctorEntity.user")
+    List<DoctorEntity> findAll();
+    
     Optional<DoctorEntity> findByUser(UserEntity user);
     Optional<DoctorEntity> findByUserId(Long userId);
+    @EntityGraph("DoctorEntity.user")
     List<DoctorEntity> findByIsActiveTrue();
+    @EntityGraph("DoctorEntity.user")
     List<DoctorEntity> findBySpecializationAndIsActiveTrue(String specialization);
+    @EntityGraph("DoctorEntity.user")
     List<DoctorEntity> findBySpecializationContainingIgnoreCaseAndIsActiveTrue(String specialization);
+    @EntityGraph("DoctorEntity.user")
     List<DoctorEntity> findByIsActiveTrueOrderByRatingDesc();
+    @EntityGraph("DoctorEntity.user")
     List<DoctorEntity> findByIsActiveTrueOrderByCreatedAtDesc();
     
+    @EntityGraph("DoctorEntity.user")
     @Query("SELECT d FROM DoctorEntity d WHERE d.isActive = true AND (:specialization IS NULL OR LOWER(d.specialization) LIKE LOWER(CONCAT('%', :specialization, '%')))")
     List<DoctorEntity> findActiveBySpecialization(@Param("specialization") String specialization);
     
     @Query("SELECT COUNT(d) FROM DoctorEntity d WHERE d.isActive = true")
     long countActiveDoctors();
     
+    @EntityGraph("DoctorEntity.user")
     @Query("SELECT d FROM DoctorEntity d WHERE d.isActive = true AND " +
            "(LOWER(d.user.fullName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(d.specialization) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     List<DoctorEntity> searchDoctors(@Param("searchTerm") String searchTerm);
     
+    @EntityGraph("DoctorEntity.user")
     @Query("SELECT d FROM DoctorEntity d WHERE d.isActive = true AND " +
            "(LOWER(d.user.fullName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(d.specialization) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
@@ -39,4 +52,12 @@ public interface DoctorRepository extends JpaRepository<DoctorEntity, Long> {
     
     @Query("SELECT DISTINCT d.specialization FROM DoctorEntity d WHERE d.isActive = true ORDER BY d.specialization")
     List<String> findAllActiveSpecializations();
+    
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(:lockKey)) AS booking_lock", nativeQuery = true)
+    long acquireBookingLock(@Param("lockKey") long lockKey);
+    
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM pg_constraint " +
+                   "WHERE conname = 'appointments_doctor_no_overlap' AND contype = 'x' AND convalidated)",
+           nativeQuery = true)
+    boolean hasBookingOverlapConstraint();
 }
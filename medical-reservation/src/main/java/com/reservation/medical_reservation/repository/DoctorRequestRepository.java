@@ -3,6 +3,7 @@ package com.reservation.medical_reservation.repository;
 import com.reservation.medical_reservation.model.entity.DoctorRequestEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
 import com.reservation.medical_reservation.model.enums.DoctorRequestStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,7 +13,9 @@ import java.util.Optional;
 @Repository
 public interface DoctorRequestRepository extends JpaRepository<DoctorRequestEntity, Long> {
     Optional<DoctorRequestEntity> findByUser(UserEntity user);
+    @EntityGraph("DoctorRequestEntity.details")
     List<DoctorRequestEntity> findByStatusOrderByCreatedAtDesc(DoctorRequestStatus status);
+    @EntityGraph("DoctorRequestEntity.details")
     List<DoctorRequestEntity> findAllByOrderByCreatedAtDesc();
     boolean existsByUser(UserEntity user);
     List<DoctorRequestEntity> findByReviewedBy(UserEntity reviewedBy);
@@ -3,6 +3,7 @@ package com.reservation.medical_reservation.repository;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.MedicalHistoryEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,8 +11,11 @@ import java.util.List;
 
 @Repository
 public interface MedicalHistoryRepository extends JpaRepository<MedicalHistoryEntity, Long> {
+    @EntityGraph("MedicalHistoryEntity.details")
     List<MedicalHistoryEntity> findByPatientOrderByCreatedAtDesc(UserEntity patient);
+    @EntityGraph("MedicalHistoryEntity.details")
     List<MedicalHistoryEntity> findByDoctorOrderByCreatedAtDesc(DoctorEntity doctor);
+    @EntityGraph("MedicalHistoryEntity.details")
     List<MedicalHistoryEntity> findByPatientAndDoctorOrderByCreatedAtDesc(UserEntity patient, DoctorEntity doctor);
     
     void deleteByPatient(UserEntity patient);
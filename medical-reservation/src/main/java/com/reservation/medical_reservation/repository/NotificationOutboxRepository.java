@@ -0,0 +1,23 @@
+package com.reservation.medical_reservation.repository;
+
+import com.reservation.medical_reservation.model.entity.NotificationOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    @Query(value = "SELECT id FROM notification_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> claimBatch(@Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM notification_outbox WHERE id = :id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> claim(@Param("id") Long id);
+
+    @Query(value = "SELECT id FROM notification_outbox ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findPendingIds(@Param("limit") int limit);
+}
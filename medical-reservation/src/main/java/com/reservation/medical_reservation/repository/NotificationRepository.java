@@ -1,15 +1,70 @@
 package com.reservation.medical_reservation.repository;
 
 import com.reservation.medical_reservation.model.entity.NotificationEntity;
-import com.reservation.medical_reservation.model.entity.UserEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
-    List<NotificationEntity> findByUserOrderByCreatedAtDesc(UserEntity user);
-    List<NotificationEntity> findByUserAndReadFalseOrderByCreatedAtDesc(UserEntity user);
-    long countByUserAndReadFalse(UserEntity user);
+    List<NotificationEntity> findByUserIdOrderByCreatedAtDesc(Long userId, Limit limit);
+    List<NotificationEntity> findByUserIdAndReadFalseOrderByCreatedAtDesc(Long userId, Limit limit);
+    Page<NotificationEntity> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n SET n.read = true WHERE n.id IN :ids AND n.read = false")
+    int markReadByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n SET n.read = true " +
+           "WHERE n.id IN :ids AND n.user.id = :userId AND n.read = false")
+    int markReadByIdsForUser(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
+    int markAllReadByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM NotificationEntity n WHERE n.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT n.user.id FROM NotificationEntity n WHERE n.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM NotificationEntity n WHERE n.id = :id AND n.read = :read")
+    int deleteByIdAndRead(@Param("id") Long id, @Param("read") boolean read);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM NotificationEntity n WHERE n.id = :id AND n.user.id = :userId AND n.read = :read")
+    int deleteByIdForUserAndRead(@Param("id") Long id, @Param("userId") Long userId, @Param("read") boolean read);
+
+    @Modifying
+    @Query(value = "WITH expired AS (" +
+                   "    SELECT id FROM notifications WHERE type = :type AND is_read = TRUE AND created_at < :cutoff " +
+                   "    ORDER BY id LIMIT :chunkSize FOR UPDATE SKIP LOCKED" +
+                   "), moved AS (" +
+                   "    DELETE FROM notifications n USING expired e WHERE n.id = e.id " +
+                   "    RETURNING n.id, n.user_id, n.title, n.message, n.type, n.is_read, n.created_at" +
+                   ") INSERT INTO notifications_archive (id, user_id, title, message, type, is_read, created_at, archived_at) " +
+                   "SELECT id, user_id, title, message, type, is_read, created_at, :archivedAt FROM moved",
+           nativeQuery = true)
+    int archiveReadChunk(@Param("type") String type,
+                         @Param("cutoff") LocalDateTime cutoff,
+                         @Param("archivedAt") LocalDateTime archivedAt,
+                         @Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Query(value = "DELETE FROM notifications_archive WHERE user_id = :userId", nativeQuery = true)
+    int deleteArchivedByUserId(@Param("userId") Long userId);
 }
@@ -5,6 +5,7 @@ import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.RescheduleRequestEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
 import com.reservation.medical_reservation.model.enums.RescheduleRequestStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,13 +18,17 @@ import java.util.Optional;
 @Repository
 public interface RescheduleRequestRepository extends JpaRepository<RescheduleRequestEntity, Long> {
     
+    @EntityGraph("RescheduleRequestEntity.details")
     List<RescheduleRequestEntity> findByAppointmentPatientOrderByCreatedAtDesc(UserEntity patient);
     
+    @EntityGraph("RescheduleRequestEntity.details")
     @Query("SELECT r FROM RescheduleRequestEntity r WHERE r.appointment.doctor = :doctor ORDER BY r.createdAt DESC")
     List<RescheduleRequestEntity> findByDoctorOrderByCreatedAtDesc(@Param("doctor") DoctorEntity doctor);
     
+    @EntityGraph("RescheduleRequestEntity.details")
     List<RescheduleRequestEntity> findByStatusOrderByCreatedAtDesc(RescheduleRequestStatus status);
     
+    @EntityGraph("RescheduleRequestEntity.details")
     @Query("SELECT r FROM RescheduleRequestEntity r WHERE r.appointment.doctor = :doctor AND r.status = :status ORDER BY r.createdAt DESC")
     List<RescheduleRequestEntity> findByDoctorAndStatusOrderByCreatedAtDesc(@Param("doctor") DoctorEntity doctor, @Param("status") RescheduleRequestStatus status);
     
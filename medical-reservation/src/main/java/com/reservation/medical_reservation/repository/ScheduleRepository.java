@@ -3,11 +3,13 @@ package com.reservation.medical_reservation.repository;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.ScheduleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -37,5 +39,38 @@ public interface ScheduleRepository extends JpaRepository<ScheduleEntity, Long>
             @Param("endDate") LocalDateTime endDate,
             @Param("currentTime") LocalDateTime currentTime);
     
+    @Query("SELECT s FROM ScheduleEntity s WHERE s.doctor = :doctor AND " +
+           "((s.startTime <= :firstEnd AND s.endTime >= :firstStart) OR " +
+           "(s.startTime <= :secondEnd AND s.endTime >= :secondStart)) ORDER BY s.startTime")
+    List<ScheduleEntity> findByDoctorAndEitherDateRange(
+            @Param("doctor") DoctorEntity doctor,
+            @Param("firstStart") LocalDateTime firstStart,
+            @Param("firstEnd") LocalDateTime firstEnd,
+            @Param("secondStart") LocalDateTime secondStart,
+            @Param("secondEnd") LocalDateTime secondEnd);
+
+    @Query(value = "SELECT " +
+           "EXISTS (SELECT 1 FROM blocked_slots b WHERE b.doctor_id = :doctorId " +
+           "AND b.start_time < :endTime AND b.end_time > :startTime) AS blocked, " +
+           "EXISTS (SELECT 1 FROM schedules s WHERE s.doctor_id = :doctorId AND s.available = true " +
+           "AND s.start_time <= :startTime AND s.end_time >= :endTime) AS covered, " +
+           "EXISTS (SELECT 1 FROM schedules s WHERE s.doctor_id = :doctorId " +
+           "AND s.start_time < :endTime AND s.end_time > :startTime) AS scheduled",
+           nativeQuery = true)
+    SlotProbe probeSlot(
+            @Param("doctorId") Long doctorId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+    
+    @Modifying
+    @Query("DELETE FROM ScheduleEntity s WHERE s.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+    
     void deleteByDoctor(DoctorEntity doctor);
+
+    interface SlotProbe {
+        boolean getBlocked();
+        boolean getCovered();
+        boolean getScheduled();
+    }
 }
@@ -2,12 +2,22 @@ package com.reservation.medical_reservation.repository;
 
 import com.reservation.medical_reservation.model.entity.RoleEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
+import com.reservation.medical_reservation.model.enums.RoleName;
+import com.reservation.medical_reservation.model.projection.DailyTotal;
+import com.reservation.medical_reservation.model.projection.UserExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
@@ -16,6 +26,7 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     List<UserEntity> findByRoleOrderByCreatedAtDesc(RoleEntity role);
     List<UserEntity> findByIsActiveTrueOrderByCreatedAtDesc();
     long countByRole(RoleEntity role);
+    long countByRoleName(RoleName name);
     
     @Query("SELECT COUNT(u) FROM UserEntity u WHERE u.role.name = 'USER' AND u.isActive = true")
     long countActivePatients();
@@ -24,4 +35,26 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     long countActiveUsers();
     
     Optional<UserEntity> findByPasswordResetToken(String token);
-}
\ No newline at end of file
+
+    @Query("SELECT u.unreadNotifications FROM UserEntity u WHERE u.id = :userId")
+    Optional<Long> findUnreadNotificationsById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE users SET unread_notifications = unread_notifications + :delta WHERE id = :userId",
+            nativeQuery = true)
+    int adjustUnreadNotifications(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.DailyTotal(" +
+            "CAST(u.createdAt AS LocalDate), COUNT(u)) FROM UserEntity u WHERE u.createdAt >= :from " +
+            "GROUP BY CAST(u.createdAt AS LocalDate)")
+    List<DailyTotal> countCreatedPerDay(@Param("from") LocalDateTime from);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.reservation.medical_reservation.model.projection.UserExportRow(" +
+            "u.id, u.fullName, u.email, u.phoneNumber, r.name, u.isActive, u.deactivationType, u.lastLogin, u.createdAt) " +
+            "FROM UserEntity u JOIN u.role r ORDER BY u.id")
+    Stream<UserExportRow> streamExportRows();
+}
@@ -20,12 +20,17 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String STREAM_PATH = "/api/notifications/stream";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final StreamTicketRegistry streamTicketRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository,
+                                   StreamTicketRegistry streamTicketRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userRepository = userRepository;
+        this.streamTicketRegistry = streamTicketRegistry;
     }
 
     @Override
@@ -61,8 +66,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+            String token = bearerToken.substring(7);
+            return jwtTokenProvider.validateToken(token) && !jwtTokenProvider.isStreamTicket(token) ? token : null;
+        }
+        if (STREAM_PATH.equals(request.getRequestURI())) {
+            return redeemStreamTicket(request.getParameter("ticket"));
         }
         return null;
     }
+
+    private String redeemStreamTicket(String ticket) {
+        if (!StringUtils.hasText(ticket) || !jwtTokenProvider.validateToken(ticket)
+                || !jwtTokenProvider.isStreamTicket(ticket)) {
+            return null;
+        }
+        boolean firstUse = streamTicketRegistry.redeem(jwtTokenProvider.getIdFromToken(ticket),
+                jwtTokenProvider.getExpirationDateFromToken(ticket));
+        return firstUse ? ticket : null;
+    }
 }
@@ -10,17 +10,24 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String PURPOSE_CLAIM = "purpose";
+    private static final String STREAM_PURPOSE = "notification-stream";
+
     @Value("${jwt.secret:mySecretKey}")
     private String jwtSecret;
 
     @Value("${jwt.expiration:86400000}") 
     private long jwtExpirationMs;
 
+    @Value("${jwt.stream-ticket.expiration:30000}")
+    private long streamTicketExpirationMs;
+
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(jwtSecret.getBytes());
     }
@@ -37,6 +44,25 @@ public class JwtTokenProvider {
         return createToken(claims, email);
     }
 
+    public String generateStreamTicket(String email, String role, Long userId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", role);
+        claims.put("userId", userId);
+        claims.put(PURPOSE_CLAIM, STREAM_PURPOSE);
+        return Jwts.builder()
+                .claims(claims)
+                .id(UUID.randomUUID().toString())
+                .subject(email)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + streamTicketExpirationMs))
+                .signWith(getSigningKey())
+                .compact();
+    }
+
+    public long getStreamTicketExpirationMs() {
+        return streamTicketExpirationMs;
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .claims(claims)
@@ -63,6 +89,14 @@ public class JwtTokenProvider {
         return getClaimFromToken(token, claims -> claims.get("userId", Long.class));
     }
 
+    public boolean isStreamTicket(String token) {
+        return STREAM_PURPOSE.equals(getClaimFromToken(token, claims -> claims.get(PURPOSE_CLAIM, String.class)));
+    }
+
+    public String getIdFromToken(String token) {
+        return getClaimFromToken(token, Claims::getId);
+    }
+
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = getAllClaimsFromToken(token);
         return claimsResolver.apply(claims);
@@ -0,0 +1,32 @@
+package com.reservation.medical_reservation.security;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+@Component
+public class StreamTicketRegistry {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StreamTicketRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean redeem(String ticketId, Date expiresAt) {
+        if (ticketId == null) {
+            return false;
+        }
+        return jdbcTemplate.update("INSERT INTO stream_ticket_redemptions (ticket_id, expires_at) VALUES (?, ?) " +
+                "ON CONFLICT (ticket_id) DO NOTHING", ticketId, new Timestamp(expiresAt.getTime())) == 1;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.stream-ticket.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        jdbcTemplate.update("DELETE FROM stream_ticket_redemptions WHERE expires_at < ?",
+                new Timestamp(System.currentTimeMillis()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.reservation.medical_reservation.service;
 
 import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.AppointmentPageDTO;
 import com.reservation.medical_reservation.model.dto.DoctorRequestDTO;
 import com.reservation.medical_reservation.model.dto.UserDTO;
 
@@ -20,6 +21,7 @@ public interface AdminService {
     DoctorRequestDTO rejectDoctorRequest(Long requestId, Long adminId, String reason);
     
     List<AppointmentDTO> getAllAppointments();
+    AppointmentPageDTO getAppointmentsPage(String cursor, int size);
     
     long getTotalUsers();
     long getTotalPatients();
@@ -0,0 +1,12 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.entity.AppointmentEntity;
+
+import java.time.LocalDateTime;
+
+public interface AppointmentIndexService {
+    boolean hasConflict(Long doctorId, LocalDateTime startTime, LocalDateTime endTime, Long excludeAppointmentId);
+    void track(AppointmentEntity appointment);
+    void evictDoctor(Long doctorId);
+    void evictAll();
+}
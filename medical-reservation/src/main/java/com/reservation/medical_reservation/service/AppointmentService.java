@@ -1,6 +1,7 @@
 package com.reservation.medical_reservation.service;
 
 import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.AppointmentPageDTO;
 import com.reservation.medical_reservation.model.enums.AppointmentStatus;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,8 @@ public interface AppointmentService {
     AppointmentDTO createAppointment(AppointmentDTO appointmentDTO);
     List<AppointmentDTO> getPatientAppointments(Long patientId);
     List<AppointmentDTO> getDoctorAppointments(Long doctorId);
+    AppointmentPageDTO getPatientAppointmentsPage(Long patientId, String cursor, int size);
+    AppointmentPageDTO getDoctorAppointmentsPage(Long doctorId, String cursor, int size);
     List<AppointmentDTO> getUpcomingAppointmentsByPatient(Long patientId);
     List<AppointmentDTO> getUpcomingAppointmentsByDoctor(Long doctorId);
     AppointmentDTO getNextAppointmentByPatient(Long patientId);
@@ -0,0 +1,16 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.model.enums.SlotAvailability;
+import com.reservation.medical_reservation.util.AvailabilityTimeline;
+
+import java.time.LocalDateTime;
+
+public interface AvailabilityEngine {
+    AvailabilityTimeline loadTimeline(DoctorEntity doctor, LocalDateTime startDate, LocalDateTime endDate);
+    boolean usesVirtualSlots();
+    SlotAvailability checkSlot(Long doctorId, LocalDateTime startTime, LocalDateTime endTime, Long excludeAppointmentId, boolean requireScheduleSlot);
+    void materializeSlot(DoctorEntity doctor, LocalDateTime startTime, LocalDateTime endTime);
+    void moveReservation(DoctorEntity doctor, LocalDateTime originalStartTime, LocalDateTime originalEndTime,
+                         LocalDateTime newStartTime, LocalDateTime newEndTime);
+}
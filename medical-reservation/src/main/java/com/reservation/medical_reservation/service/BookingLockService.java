@@ -0,0 +1,10 @@
+package com.reservation.medical_reservation.service;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+public interface BookingLockService {
+    void lockDoctor(Long doctorId);
+    void lockDoctors(Collection<Long> doctorIds);
+    <T> T executeWithRetry(Supplier<T> action);
+}
@@ -0,0 +1,9 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.dto.DoctorDashboardDTO;
+
+public interface DoctorDashboardService {
+    DoctorDashboardDTO getDashboard(Long doctorId);
+    void evictDoctor(Long doctorId);
+    void evictAll();
+}
@@ -0,0 +1,11 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void exportUsers(ExportFormat format, OutputStream out) throws IOException;
+    void exportAppointments(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -1,6 +1,9 @@
 package com.reservation.medical_reservation.service.Impl;
 
+import com.reservation.medical_reservation.mapper.AppointmentMapper;
+import com.reservation.medical_reservation.mapper.UserMapper;
 import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.AppointmentPageDTO;
 import com.reservation.medical_reservation.model.dto.DoctorRequestDTO;
 import com.reservation.medical_reservation.model.dto.UserDTO;
 import com.reservation.medical_reservation.model.entity.*;
@@ -8,10 +11,17 @@ import com.reservation.medical_reservation.model.enums.DeactivationType;
 import com.reservation.medical_reservation.model.enums.DoctorRequestStatus;
 import com.reservation.medical_reservation.model.enums.NotificationType;
 import com.reservation.medical_reservation.model.enums.RoleName;
+import com.reservation.medical_reservation.model.enums.StatisticsCounter;
 import com.reservation.medical_reservation.repository.*;
 import com.reservation.medical_reservation.service.AdminService;
+import com.reservation.medical_reservation.service.AppointmentIndexService;
+import com.reservation.medical_reservation.service.DoctorDashboardService;
 import com.reservation.medical_reservation.service.NotificationService;
+import com.reservation.medical_reservation.service.OccupancyCacheService;
+import com.reservation.medical_reservation.service.StatisticsService;
+import com.reservation.medical_reservation.util.AppointmentCursor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +31,8 @@ import java.util.List;
 @Service
 public class AdminServiceImpl implements AdminService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final DoctorRepository doctorRepository;
     private final DoctorRequestRepository doctorRequestRepository;
@@ -34,6 +46,12 @@ public class AdminServiceImpl implements AdminService {
     private final DoctorAvailabilityRepository doctorAvailabilityRepository;
     private final ScheduleRepository scheduleRepository;
     private final NotificationService notificationService;
+    private final AppointmentIndexService appointmentIndexService;
+    private final DoctorDashboardService doctorDashboardService;
+    private final OccupancyCacheService occupancyCacheService;
+    private final StatisticsService statisticsService;
+    private final UserMapper userMapper;
+    private final AppointmentMapper appointmentMapper;
     private final ModelMapper modelMapper;
 
     public AdminServiceImpl(UserRepository userRepository,
@@ -49,6 +67,12 @@ public class AdminServiceImpl implements AdminService {
                           DoctorAvailabilityRepository doctorAvailabilityRepository,
                           ScheduleRepository scheduleRepository,
                           NotificationService notificationService,
+                          AppointmentIndexService appointmentIndexService,
+                          DoctorDashboardService doctorDashboardService,
+                          OccupancyCacheService occupancyCacheService,
+                          StatisticsService statisticsService,
+                          UserMapper userMapper,
+                          AppointmentMapper appointmentMapper,
                           ModelMapper modelMapper) {
         this.userRepository = userRepository;
         this.doctorRepository = doctorRepository;
@@ -63,6 +87,12 @@ public class AdminServiceImpl implements AdminService {
         this.doctorAvailabilityRepository = doctorAvailabilityRepository;
         this.scheduleRepository = scheduleRepository;
         this.notificationService = notificationService;
+        this.appointmentIndexService = appointmentIndexService;
+        this.doctorDashboardService = doctorDashboardService;
+        this.occupancyCacheService = occupancyCacheService;
+        this.statisticsService = statisticsService;
+        this.userMapper = userMapper;
+        this.appointmentMapper = appointmentMapper;
         this.modelMapper = modelMapper;
     }
 
@@ -70,7 +100,7 @@ public class AdminServiceImpl implements AdminService {
     public List<UserDTO> getAllUsers() {
         return userRepository.findAll()
                 .stream()
-                .map(this::convertUserToDTO)
+                .map(userMapper::toDTO)
                 .toList();
     }
 
@@ -78,7 +108,7 @@ public class AdminServiceImpl implements AdminService {
     public UserDTO getUserById(Long userId) {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        return convertUserToDTO(user);
+        return userMapper.toDTO(user);
     }
 
     @Override
@@ -90,8 +120,10 @@ public class AdminServiceImpl implements AdminService {
         RoleEntity role = roleRepository.findByName(RoleName.valueOf(roleName))
                 .orElseThrow(() -> new IllegalArgumentException("Role not found"));
 
+        RoleName oldRole = user.getRole().getName();
         user.setRole(role);
         UserEntity updated = userRepository.save(user);
+        statisticsService.recordUserRoleChanged(oldRole, role.getName());
 
         notificationService.createNotification(
                 user,
@@ -100,7 +132,7 @@ public class AdminServiceImpl implements AdminService {
                 NotificationType.SYSTEM_NOTIFICATION
         );
 
-        return convertUserToDTO(updated);
+        return userMapper.toDTO(updated);
     }
 
     @Override
@@ -165,6 +197,9 @@ public class AdminServiceImpl implements AdminService {
         rescheduleRequestRepository.deleteByAppointmentPatient(user);
         medicalHistoryRepository.deleteByPatient(user);
         appointmentRepository.deleteByPatient(user);
+        appointmentIndexService.evictAll();
+        doctorDashboardService.evictAll();
+        occupancyCacheService.evictAll();
 
         doctorRepository.findByUserId(userId).ifPresent(doctor -> {
             rescheduleRequestRepository.deleteByDoctor(doctor);
@@ -185,10 +220,11 @@ public class AdminServiceImpl implements AdminService {
             doctorRequestRepository.save(request);
         }
 
-        List<NotificationEntity> userNotifications = notificationRepository.findByUserOrderByCreatedAtDesc(user);
-        notificationRepository.deleteAll(userNotifications);
+        notificationRepository.deleteByUserId(userId);
+        notificationRepository.deleteArchivedByUserId(userId);
 
         userRepository.delete(user);
+        statisticsService.reconcileAfterCommit();
     }
 
     @Override
@@ -231,9 +267,11 @@ public class AdminServiceImpl implements AdminService {
         doctor.setLicenseNumber(request.getLicenseNumber());
         doctor.setEducation(request.getEducation());
         doctor.setExperience(request.getExperience());
+        boolean wasActive = Boolean.TRUE.equals(doctor.getIsActive());
         doctor.setIsActive(true);
 
         doctorRepository.save(doctor);
+        statisticsService.recordDoctorActivationChanged(wasActive, true);
 
         request.setStatus(DoctorRequestStatus.APPROVED);
         request.setReviewedBy(admin);
@@ -291,32 +329,38 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public List<AppointmentDTO> getAllAppointments() {
-        return appointmentRepository.findAllByOrderByAppointmentTimeDesc()
+        return appointmentRepository.findAllRows()
                 .stream()
-                .map(this::convertAppointmentToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
+    @Override
+    public AppointmentPageDTO getAppointmentsPage(String cursor, int size) {
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return appointmentMapper.toPage(appointmentRepository.findRowsBefore(
+                after.appointmentTime(), after.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
     @Override
     public long getTotalUsers() {
-        return userRepository.count();
+        return statisticsService.getTotal(StatisticsCounter.USERS);
     }
 
     @Override
     public long getTotalPatients() {
-        RoleEntity userRole = roleRepository.findByName(RoleName.USER)
-                .orElse(null);
-        return userRole != null ? userRepository.countByRole(userRole) : 0;
+        return statisticsService.getTotal(StatisticsCounter.PATIENTS);
     }
 
     @Override
     public long getTotalDoctors() {
-        return doctorRepository.countActiveDoctors();
+        return statisticsService.getTotal(StatisticsCounter.DOCTORS);
     }
 
     @Override
     public long getTotalAppointments() {
-        return appointmentRepository.count();
+        return statisticsService.getTotal(StatisticsCounter.APPOINTMENTS);
     }
 
     private DoctorRequestDTO convertToDTO(DoctorRequestEntity request) {
@@ -332,29 +376,4 @@ public class AdminServiceImpl implements AdminService {
         return dto;
     }
     
-    private UserDTO convertUserToDTO(UserEntity user) {
-        UserDTO dto = modelMapper.map(user, UserDTO.class);
-
-        dto.setRole(user.getRole().getName().toString());
-        dto.setIsActive(user.getIsActive());
-        dto.setDeactivationType(user.getDeactivationType());
-        
-        return dto;
-    }
-
-    private AppointmentDTO convertAppointmentToDTO(AppointmentEntity appointment) {
-        AppointmentDTO dto = modelMapper.map(appointment, AppointmentDTO.class);
-        dto.setPatientId(appointment.getPatient().getId());
-        dto.setPatientName(appointment.getPatient().getFullName());
-        dto.setDoctorId(appointment.getDoctor().getId());
-        dto.setDoctorName(appointment.getDoctor().getUser().getFullName());
-        dto.setDoctorSpecialization(appointment.getDoctor().getSpecialization());
-        
-        if (appointment.getService() != null) {
-            dto.setServiceId(appointment.getService().getId());
-            dto.setServiceName(appointment.getService().getName());
-        }
-        
-        return dto;
-    }
 }
@@ -0,0 +1,167 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.model.entity.AppointmentEntity;
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.projection.AppointmentInterval;
+import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.repository.DoctorRepository;
+import com.reservation.medical_reservation.service.AppointmentIndexService;
+import com.reservation.medical_reservation.util.IntervalIndex;
+import com.reservation.medical_reservation.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+@Service
+public class AppointmentIndexServiceImpl implements AppointmentIndexService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorRepository doctorRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Map<Long, DoctorState> states = new ConcurrentHashMap<>();
+    private final Map<Long, DoctorIndex> indexes = new ConcurrentHashMap<>();
+
+    @Value("${appointments.index.lookback-days:1}")
+    private long lookbackDays;
+
+    public AppointmentIndexServiceImpl(AppointmentRepository appointmentRepository,
+                                     DoctorRepository doctorRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.appointmentRepository = appointmentRepository;
+        this.doctorRepository = doctorRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public boolean hasConflict(Long doctorId, LocalDateTime startTime, LocalDateTime endTime, Long excludeAppointmentId) {
+        if (!startTime.isBefore(windowStart())) {
+            DoctorState state = state(doctorId);
+            if (state.pending.get() == 0) {
+                DoctorIndex index = indexes.get(doctorId);
+                if (index == null) {
+                    index = load(doctorId, state);
+                }
+                if (index != null && !startTime.isBefore(index.coveredFrom())) {
+                    return index.intervals().overlaps(startTime, endTime, excludeAppointmentId);
+                }
+            }
+        }
+
+        DoctorEntity doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
+
+        return appointmentRepository.findConflictingAppointments(doctor, startTime, endTime)
+                .stream()
+                .anyMatch(appointment -> !appointment.getId().equals(excludeAppointmentId));
+    }
+
+    @Override
+    public void track(AppointmentEntity appointment) {
+        Long appointmentId = appointment.getId();
+        Long doctorId = appointment.getDoctor().getId();
+        LocalDateTime startTime = appointment.getAppointmentTime();
+        LocalDateTime endTime = appointment.getEndTime();
+        UnaryOperator<IntervalIndex> change = appointment.getStatus() == AppointmentStatus.CANCELLED
+                ? intervals -> intervals.without(appointmentId)
+                : intervals -> intervals.with(appointmentId, startTime, endTime);
+
+        DoctorState state = state(doctorId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(doctorId, state, change);
+            return;
+        }
+
+        state.pending.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(doctorId, state, change);
+                    }
+                } finally {
+                    state.pending.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void evictDoctor(Long doctorId) {
+        TransactionCallbacks.afterCommit(() -> apply(doctorId, state(doctorId), null));
+    }
+
+    @Override
+    public void evictAll() {
+        TransactionCallbacks.afterCommit(() -> states.forEach((doctorId, state) -> apply(doctorId, state, null)));
+    }
+
+    private DoctorIndex load(Long doctorId, DoctorState state) {
+        long version = state.version;
+        LocalDateTime coveredFrom = windowStart();
+
+        List<AppointmentInterval> appointments = loadTransaction.execute(status -> {
+            if (!doctorRepository.existsById(doctorId)) {
+                throw new IllegalArgumentException("Doctor not found");
+            }
+            return appointmentRepository.findActiveIntervalsByDoctorFrom(doctorId, coveredFrom.minusDays(1));
+        });
+
+        IntervalIndex.Builder builder = IntervalIndex.builder();
+        for (AppointmentInterval appointment : appointments) {
+            builder.add(appointment.id(), appointment.startTime(), appointment.endTime());
+        }
+        DoctorIndex loaded = new DoctorIndex(coveredFrom, builder.build());
+
+        synchronized (state) {
+            if (state.version != version) {
+                return null;
+            }
+            DoctorIndex existing = indexes.putIfAbsent(doctorId, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private void apply(Long doctorId, DoctorState state, UnaryOperator<IntervalIndex> change) {
+        synchronized (state) {
+            state.version++;
+            if (change == null) {
+                indexes.remove(doctorId);
+            } else {
+                indexes.computeIfPresent(doctorId, (id, index) -> index.withIntervals(change.apply(index.intervals())));
+            }
+        }
+    }
+
+    private DoctorState state(Long doctorId) {
+        return states.computeIfAbsent(doctorId, id -> new DoctorState());
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDate.now().minusDays(lookbackDays).atStartOfDay();
+    }
+
+    private static final class DoctorState {
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long version;
+    }
+
+    private record DoctorIndex(LocalDateTime coveredFrom, IntervalIndex intervals) {
+        DoctorIndex withIntervals(IntervalIndex updated) {
+            return new DoctorIndex(coveredFrom, updated);
+        }
+    }
+}
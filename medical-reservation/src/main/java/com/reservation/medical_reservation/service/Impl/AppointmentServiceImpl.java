@@ -1,22 +1,32 @@
 package com.reservation.medical_reservation.service.Impl;
 
+import com.reservation.medical_reservation.mapper.AppointmentMapper;
 import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.AppointmentPageDTO;
 import com.reservation.medical_reservation.model.entity.AppointmentEntity;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.ServiceEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
 import com.reservation.medical_reservation.model.enums.AppointmentStatus;
 import com.reservation.medical_reservation.model.enums.NotificationType;
+import com.reservation.medical_reservation.model.enums.SlotAvailability;
 import com.reservation.medical_reservation.repository.AppointmentRepository;
 import com.reservation.medical_reservation.repository.DoctorRepository;
 import com.reservation.medical_reservation.repository.ServiceRepository;
 import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.AppointmentIndexService;
+import com.reservation.medical_reservation.service.DoctorDashboardService;
 import com.reservation.medical_reservation.service.AppointmentService;
+import com.reservation.medical_reservation.service.AvailabilityEngine;
+import com.reservation.medical_reservation.service.BookingLockService;
 import com.reservation.medical_reservation.service.NotificationService;
+import com.reservation.medical_reservation.service.OccupancyCacheService;
+import com.reservation.medical_reservation.service.StatisticsService;
+import com.reservation.medical_reservation.util.AppointmentCursor;
 import com.reservation.medical_reservation.util.DateFormatterUtil;
-import org.modelmapper.ModelMapper;
+import com.reservation.medical_reservation.util.DayRange;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -25,42 +35,75 @@ import java.util.List;
 @Service
 public class AppointmentServiceImpl implements AppointmentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
     private final DoctorRepository doctorRepository;
     private final ServiceRepository serviceRepository;
     private final NotificationService notificationService;
-    private final ModelMapper modelMapper;
+    private final AppointmentIndexService appointmentIndexService;
+    private final DoctorDashboardService doctorDashboardService;
+    private final AvailabilityEngine availabilityEngine;
+    private final OccupancyCacheService occupancyCacheService;
+    private final StatisticsService statisticsService;
+    private final BookingLockService bookingLockService;
+    private final AppointmentMapper appointmentMapper;
 
     public AppointmentServiceImpl(AppointmentRepository appointmentRepository,
                                 UserRepository userRepository,
                                 DoctorRepository doctorRepository,
                                 ServiceRepository serviceRepository,
                                 NotificationService notificationService,
-                                ModelMapper modelMapper) {
+                                AppointmentIndexService appointmentIndexService,
+                                DoctorDashboardService doctorDashboardService,
+                                AvailabilityEngine availabilityEngine,
+                                OccupancyCacheService occupancyCacheService,
+                                StatisticsService statisticsService,
+                                BookingLockService bookingLockService,
+                                AppointmentMapper appointmentMapper) {
         this.appointmentRepository = appointmentRepository;
         this.userRepository = userRepository;
         this.doctorRepository = doctorRepository;
         this.serviceRepository = serviceRepository;
         this.notificationService = notificationService;
-        this.modelMapper = modelMapper;
+        this.appointmentIndexService = appointmentIndexService;
+        this.doctorDashboardService = doctorDashboardService;
+        this.availabilityEngine = availabilityEngine;
+        this.occupancyCacheService = occupancyCacheService;
+        this.statisticsService = statisticsService;
+        this.bookingLockService = bookingLockService;
+        this.appointmentMapper = appointmentMapper;
     }
 
     @Override
-    @Transactional
     public AppointmentDTO createAppointment(AppointmentDTO appointmentDTO) {
+        return bookingLockService.executeWithRetry(() -> bookAppointment(appointmentDTO));
+    }
+
+    private AppointmentDTO bookAppointment(AppointmentDTO appointmentDTO) {
         UserEntity patient = userRepository.findById(appointmentDTO.getPatientId())
                 .orElseThrow(() -> new IllegalArgumentException("Patient not found"));
         
         DoctorEntity doctor = doctorRepository.findById(appointmentDTO.getDoctorId())
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
 
-        if (!isSlotAvailable(appointmentDTO.getDoctorId(), 
-                           appointmentDTO.getAppointmentTime(), 
-                           appointmentDTO.getEndTime())) {
+        bookingLockService.lockDoctor(doctor.getId());
+
+        SlotAvailability availability = availabilityEngine.checkSlot(doctor.getId(),
+                appointmentDTO.getAppointmentTime(), appointmentDTO.getEndTime(), null, true);
+        if (availability == SlotAvailability.BLOCKED) {
+            throw new IllegalArgumentException("Time slot is blocked by the doctor");
+        }
+        if (availability == SlotAvailability.NO_SCHEDULE_SLOT) {
+            throw new IllegalArgumentException("The doctor has no available schedule slot at this time");
+        }
+        if (availability != SlotAvailability.FREE) {
             throw new IllegalArgumentException("Time slot is not available");
         }
 
+        availabilityEngine.materializeSlot(doctor, appointmentDTO.getAppointmentTime(), appointmentDTO.getEndTime());
+
         AppointmentEntity appointment = new AppointmentEntity();
         appointment.setPatient(patient);
         appointment.setDoctor(doctor);
@@ -75,7 +118,11 @@ public class AppointmentServiceImpl implements AppointmentService {
             appointment.setService(service);
         }
 
-        AppointmentEntity saved = appointmentRepository.save(appointment);
+        AppointmentEntity saved = appointmentRepository.saveAndFlush(appointment);
+        appointmentIndexService.track(saved);
+        doctorDashboardService.evictDoctor(doctor.getId());
+        occupancyCacheService.markBusy(doctor.getId(), saved.getAppointmentTime(), saved.getEndTime());
+        statisticsService.recordAppointmentCreated(saved.getStatus(), saved.getAppointmentTime(), doctor.getSpecialization());
 
         notificationService.createNotification(
                 patient,
@@ -93,50 +140,78 @@ public class AppointmentServiceImpl implements AppointmentService {
                 NotificationType.APPOINTMENT_CONFIRMATION
         );
 
-        return convertToDTO(saved);
+        return appointmentMapper.toDTO(saved);
     }
 
     @Override
     public List<AppointmentDTO> getPatientAppointments(Long patientId) {
-        UserEntity patient = userRepository.findById(patientId)
-                .orElseThrow(() -> new IllegalArgumentException("Patient not found"));
+        if (!userRepository.existsById(patientId)) {
+            throw new IllegalArgumentException("Patient not found");
+        }
         
-        return appointmentRepository.findByPatientOrderByAppointmentTimeDesc(patient)
+        return appointmentRepository.findRowsByPatient(patientId)
                 .stream()
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
     @Override
     public List<AppointmentDTO> getDoctorAppointments(Long doctorId) {
-        DoctorEntity doctor = doctorRepository.findById(doctorId)
-                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new IllegalArgumentException("Doctor not found");
+        }
         
-        return appointmentRepository.findByDoctorWithPatientProfileOrderByAppointmentTimeDesc(doctor)
+        return appointmentRepository.findRowsByDoctor(doctorId)
                 .stream()
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
+    @Override
+    public AppointmentPageDTO getPatientAppointmentsPage(Long patientId, String cursor, int size) {
+        if (!userRepository.existsById(patientId)) {
+            throw new IllegalArgumentException("Patient not found");
+        }
+        
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        return appointmentMapper.toPage(appointmentRepository.findRowsByPatientBefore(
+                patientId, after.appointmentTime(), after.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Override
+    public AppointmentPageDTO getDoctorAppointmentsPage(Long doctorId, String cursor, int size) {
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new IllegalArgumentException("Doctor not found");
+        }
+        
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        return appointmentMapper.toPage(appointmentRepository.findRowsByDoctorBefore(
+                doctorId, after.appointmentTime(), after.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
     @Override
     public List<AppointmentDTO> getUpcomingAppointmentsByPatient(Long patientId) {
-        UserEntity patient = userRepository.findById(patientId)
-                .orElseThrow(() -> new IllegalArgumentException("Patient not found"));
+        if (!userRepository.existsById(patientId)) {
+            throw new IllegalArgumentException("Patient not found");
+        }
         
-        return appointmentRepository.findUpcomingAppointmentsByPatient(patient, LocalDateTime.now())
+        return appointmentRepository.findUpcomingRowsByPatient(patientId, LocalDateTime.now())
                 .stream()
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
     @Override
     public List<AppointmentDTO> getUpcomingAppointmentsByDoctor(Long doctorId) {
-        DoctorEntity doctor = doctorRepository.findById(doctorId)
-                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new IllegalArgumentException("Doctor not found");
+        }
         
-        return appointmentRepository.findUpcomingAppointmentsByDoctor(doctor, LocalDateTime.now())
+        return appointmentRepository.findUpcomingRowsByDoctor(doctorId, LocalDateTime.now())
                 .stream()
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
@@ -146,7 +221,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .orElseThrow(() -> new IllegalArgumentException("Patient not found"));
         
         return appointmentRepository.findNextAppointmentByPatient(patient, LocalDateTime.now(), AppointmentStatus.CONFIRMED)
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .orElse(null);
     }
 
@@ -155,14 +230,19 @@ public class AppointmentServiceImpl implements AppointmentService {
         AppointmentEntity appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Appointment not found"));
         
-        return convertToDTO(appointment);
+        return appointmentMapper.toDTO(appointment);
     }
 
     @Override
-    @Transactional
     public AppointmentDTO updateAppointmentStatus(Long appointmentId, AppointmentStatus status, String reason) {
+        return bookingLockService.executeWithRetry(() -> changeStatus(appointmentId, status, reason));
+    }
+
+    private AppointmentDTO changeStatus(Long appointmentId, AppointmentStatus status, String reason) {
         AppointmentEntity appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Appointment not found"));
+
+        bookingLockService.lockDoctor(appointment.getDoctor().getId());
         
         AppointmentStatus oldStatus = appointment.getStatus();
         appointment.setStatus(status);
@@ -171,7 +251,16 @@ public class AppointmentServiceImpl implements AppointmentService {
             appointment.setCancellationReason(reason);
         }
         
-        AppointmentEntity updated = appointmentRepository.save(appointment);
+        AppointmentEntity updated = appointmentRepository.saveAndFlush(appointment);
+        appointmentIndexService.track(updated);
+        doctorDashboardService.evictDoctor(updated.getDoctor().getId());
+        if (status == AppointmentStatus.CANCELLED && oldStatus != AppointmentStatus.CANCELLED) {
+            occupancyCacheService.evict(updated.getDoctor().getId(), updated.getAppointmentTime(), updated.getEndTime());
+        } else if (status != AppointmentStatus.CANCELLED && oldStatus == AppointmentStatus.CANCELLED) {
+            occupancyCacheService.markBusy(updated.getDoctor().getId(), updated.getAppointmentTime(), updated.getEndTime());
+        }
+        statisticsService.recordAppointmentChanged(oldStatus, updated.getAppointmentTime(), status,
+                updated.getAppointmentTime(), updated.getDoctor().getSpecialization());
 
         if (status == AppointmentStatus.CONFIRMED && oldStatus == AppointmentStatus.PENDING) {
             notificationService.createNotification(
@@ -190,26 +279,40 @@ public class AppointmentServiceImpl implements AppointmentService {
             );
         }
 
-        return convertToDTO(updated);
+        return appointmentMapper.toDTO(updated);
     }
 
     @Override
-    @Transactional
     public AppointmentDTO rescheduleAppointment(Long appointmentId, LocalDateTime newDateTime) {
+        return bookingLockService.executeWithRetry(() -> moveAppointment(appointmentId, newDateTime));
+    }
+
+    private AppointmentDTO moveAppointment(Long appointmentId, LocalDateTime newDateTime) {
         AppointmentEntity appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Appointment not found"));
 
+        bookingLockService.lockDoctor(appointment.getDoctor().getId());
+
         LocalDateTime newEndTime = newDateTime.plusHours(1);
 
-        if (!isSlotAvailable(appointment.getDoctor().getId(), newDateTime, newEndTime)) {
+        if (!isSlotAvailableForReschedule(appointment.getDoctor().getId(), newDateTime, newEndTime, appointmentId)) {
             throw new IllegalArgumentException("New time slot is not available");
         }
         
+        occupancyCacheService.evict(appointment.getDoctor().getId(), appointment.getAppointmentTime(), appointment.getEndTime());
+
+        AppointmentStatus oldStatus = appointment.getStatus();
+        LocalDateTime oldTime = appointment.getAppointmentTime();
         appointment.setAppointmentTime(newDateTime);
         appointment.setEndTime(newEndTime);
         appointment.setStatus(AppointmentStatus.PENDING);
         
-        AppointmentEntity updated = appointmentRepository.save(appointment);
+        AppointmentEntity updated = appointmentRepository.saveAndFlush(appointment);
+        appointmentIndexService.track(updated);
+        doctorDashboardService.evictDoctor(updated.getDoctor().getId());
+        occupancyCacheService.markBusy(updated.getDoctor().getId(), newDateTime, newEndTime);
+        statisticsService.recordAppointmentChanged(oldStatus, oldTime, AppointmentStatus.PENDING, newDateTime,
+                updated.getDoctor().getSpecialization());
 
         notificationService.createNotification(
                 appointment.getPatient(),
@@ -218,11 +321,10 @@ public class AppointmentServiceImpl implements AppointmentService {
                 NotificationType.APPOINTMENT_RESCHEDULED
         );
 
-        return convertToDTO(updated);
+        return appointmentMapper.toDTO(updated);
     }
 
     @Override
-    @Transactional
     public void cancelAppointment(Long appointmentId, String reason) {
         updateAppointmentStatus(appointmentId, AppointmentStatus.CANCELLED, reason);
     }
@@ -232,33 +334,20 @@ public class AppointmentServiceImpl implements AppointmentService {
         DoctorEntity doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
         
-        return appointmentRepository.findByDoctorAndDate(doctor, date)
+        return appointmentRepository.findByDoctorAndDay(doctor, DayRange.containing(date))
                 .stream()
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
     @Override
     public boolean isSlotAvailable(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
-        DoctorEntity doctor = doctorRepository.findById(doctorId)
-                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
-        
-        List<AppointmentEntity> conflictingAppointments = appointmentRepository
-                .findConflictingAppointments(doctor, startTime, endTime);
-        
-        return conflictingAppointments.isEmpty();
+        return availabilityEngine.checkSlot(doctorId, startTime, endTime, null, true) == SlotAvailability.FREE;
     }
 
     @Override
     public boolean isSlotAvailableForReschedule(Long doctorId, LocalDateTime startTime, LocalDateTime endTime, Long excludeAppointmentId) {
-        DoctorEntity doctor = doctorRepository.findById(doctorId)
-                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
-        
-        List<AppointmentEntity> conflictingAppointments = appointmentRepository
-                .findConflictingAppointments(doctor, startTime, endTime);
-        
-        return conflictingAppointments.stream()
-                .noneMatch(appointment -> !appointment.getId().equals(excludeAppointmentId));
+        return availabilityEngine.checkSlot(doctorId, startTime, endTime, excludeAppointmentId, false) == SlotAvailability.FREE;
     }
 
     @Override
@@ -266,9 +355,9 @@ public class AppointmentServiceImpl implements AppointmentService {
         DoctorEntity doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
         
-        return appointmentRepository.findDoctorAppointmentsForToday(doctor, LocalDateTime.now())
+        return appointmentRepository.findByDoctorAndDay(doctor, DayRange.of(LocalDate.now()))
                 .stream()
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
@@ -277,9 +366,9 @@ public class AppointmentServiceImpl implements AppointmentService {
         UserEntity patient = userRepository.findById(patientId)
                 .orElseThrow(() -> new IllegalArgumentException("Patient not found"));
         
-        return appointmentRepository.findPatientAppointmentsForToday(patient, LocalDateTime.now())
+        return appointmentRepository.findByPatientAndDay(patient, DayRange.of(LocalDate.now()))
                 .stream()
-                .map(this::convertToDTO)
+                .map(appointmentMapper::toDTO)
                 .toList();
     }
 
@@ -299,37 +388,7 @@ public class AppointmentServiceImpl implements AppointmentService {
         return appointmentRepository.countPatientAppointmentsByStatus(patient, status);
     }
 
-    private AppointmentDTO convertToDTO(AppointmentEntity appointment) {
-        AppointmentDTO dto = modelMapper.map(appointment, AppointmentDTO.class);
-        dto.setPatientId(appointment.getPatient().getId());
-        dto.setPatientName(appointment.getPatient().getFullName());
-        dto.setPatientEmail(appointment.getPatient().getEmail());
-        dto.setPatientPhone(appointment.getPatient().getPhoneNumber() != null ? 
-                           appointment.getPatient().getPhoneNumber() : "");
-        
-        try {
-            LocalDate dateOfBirth = appointment.getPatient().getDateOfBirth();
-            if (dateOfBirth != null) {
-                int age = java.time.Period.between(dateOfBirth, java.time.LocalDate.now()).getYears();
-                dto.setPatientAge(age);
-            }
-        } catch (Exception e) {
-           
-            System.out.println("Could not calculate patient age for appointment " + appointment.getId() + ": " + e.getMessage());
-            dto.setPatientAge(null);
-        }
-        
-        dto.setDoctorId(appointment.getDoctor().getId());
-        dto.setDoctorName(appointment.getDoctor().getUser().getFullName());
-        dto.setDoctorSpecialization(appointment.getDoctor().getSpecialization());
-        dto.setDoctorLocation(appointment.getDoctor().getLocation());
-        dto.setConsultationFee(appointment.getDoctor().getPrice());
-        
-        if (appointment.getService() != null) {
-            dto.setServiceId(appointment.getService().getId());
-            dto.setServiceName(appointment.getService().getName());
-        }
-        
-        return dto;
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 }
@@ -0,0 +1,159 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.model.entity.ScheduleEntity;
+import com.reservation.medical_reservation.model.enums.SlotAvailability;
+import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.repository.BlockedSlotRepository;
+import com.reservation.medical_reservation.repository.DoctorAvailabilityRepository;
+import com.reservation.medical_reservation.repository.DoctorRepository;
+import com.reservation.medical_reservation.repository.ScheduleRepository;
+import com.reservation.medical_reservation.service.AppointmentIndexService;
+import com.reservation.medical_reservation.service.AvailabilityEngine;
+import com.reservation.medical_reservation.service.OccupancyCacheService;
+import com.reservation.medical_reservation.util.AvailabilityTimeline;
+import com.reservation.medical_reservation.util.VirtualSlots;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class AvailabilityEngineImpl implements AvailabilityEngine {
+
+    private final ScheduleRepository scheduleRepository;
+    private final BlockedSlotRepository blockedSlotRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorAvailabilityRepository availabilityRepository;
+    private final DoctorRepository doctorRepository;
+    private final AppointmentIndexService appointmentIndexService;
+    private final OccupancyCacheService occupancyCacheService;
+
+    @Value("${schedule.virtual-slots.enabled:false}")
+    private boolean virtualSlotsEnabled;
+
+    public AvailabilityEngineImpl(ScheduleRepository scheduleRepository,
+                                  BlockedSlotRepository blockedSlotRepository,
+                                  AppointmentRepository appointmentRepository,
+                                  DoctorAvailabilityRepository availabilityRepository,
+                                  DoctorRepository doctorRepository,
+                                  AppointmentIndexService appointmentIndexService,
+                                  OccupancyCacheService occupancyCacheService) {
+        this.scheduleRepository = scheduleRepository;
+        this.blockedSlotRepository = blockedSlotRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.availabilityRepository = availabilityRepository;
+        this.doctorRepository = doctorRepository;
+        this.appointmentIndexService = appointmentIndexService;
+        this.occupancyCacheService = occupancyCacheService;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityTimeline loadTimeline(DoctorEntity doctor, LocalDateTime startDate, LocalDateTime endDate) {
+        List<ScheduleEntity> schedules = scheduleRepository.findByDoctorAndDateRange(doctor, startDate, endDate);
+        if (virtualSlotsEnabled) {
+            List<ScheduleEntity> merged = new ArrayList<>(schedules);
+            VirtualSlots.withoutOverridden(
+                    VirtualSlots.expand(doctor, availabilityRepository.findByDoctorOrderByDayOfWeek(doctor),
+                            startDate.toLocalDate(), endDate.toLocalDate()),
+                    schedules)
+                    .stream()
+                    .filter(slot -> !slot.getStartTime().isAfter(endDate) && !slot.getEndTime().isBefore(startDate))
+                    .forEach(merged::add);
+            schedules = merged;
+        }
+
+        return new AvailabilityTimeline(
+                schedules,
+                blockedSlotRepository.findByDoctorAndDateRange(doctor, startDate, endDate),
+                appointmentRepository.findConflictingAppointments(doctor, startDate, endDate));
+    }
+
+    @Override
+    public boolean usesVirtualSlots() {
+        return virtualSlotsEnabled;
+    }
+
+    @Override
+    public SlotAvailability checkSlot(Long doctorId, LocalDateTime startTime, LocalDateTime endTime,
+                                      Long excludeAppointmentId, boolean requireScheduleSlot) {
+        if (appointmentIndexService.hasConflict(doctorId, startTime, endTime, excludeAppointmentId)) {
+            return SlotAvailability.BOOKED;
+        }
+
+        ScheduleRepository.SlotProbe probe = scheduleRepository.probeSlot(doctorId, startTime, endTime);
+        if (probe.getBlocked()) {
+            return SlotAvailability.BLOCKED;
+        }
+        if (requireScheduleSlot && !probe.getCovered() && !(virtualSlotsEnabled && !probe.getScheduled()
+                && coveredByRule(doctorId, startTime, endTime))) {
+            return SlotAvailability.NO_SCHEDULE_SLOT;
+        }
+        return SlotAvailability.FREE;
+    }
+
+    @Override
+    @Transactional
+    public void materializeSlot(DoctorEntity doctor, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!virtualSlotsEnabled || scheduleRepository.probeSlot(doctor.getId(), startTime, endTime).getScheduled()) {
+            return;
+        }
+
+        ScheduleEntity slot = new ScheduleEntity();
+        slot.setDoctor(doctor);
+        slot.setStartTime(startTime);
+        slot.setEndTime(endTime);
+        slot.setAvailable(true);
+        scheduleRepository.save(slot);
+        occupancyCacheService.evict(doctor.getId(), startTime, endTime);
+    }
+
+    private boolean coveredByRule(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+        return availabilityRepository.findByDoctorAndDayOfWeek(doctorRepository.getReferenceById(doctorId), startTime.getDayOfWeek())
+                .map(rule -> VirtualSlots.covers(rule, startTime, endTime))
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional
+    public void moveReservation(DoctorEntity doctor, LocalDateTime originalStartTime, LocalDateTime originalEndTime,
+                                LocalDateTime newStartTime, LocalDateTime newEndTime) {
+        List<ScheduleEntity> slots = scheduleRepository.findByDoctorAndEitherDateRange(
+                doctor, originalStartTime, originalEndTime, newStartTime, newEndTime);
+        List<ScheduleEntity> changed = new ArrayList<>();
+
+        for (ScheduleEntity slot : slots) {
+            if (slot.getStartTime().equals(originalStartTime) && slot.getEndTime().equals(originalEndTime)) {
+                slot.setAvailable(true);
+                changed.add(slot);
+                break;
+            } else if (AvailabilityTimeline.isOverlapping(slot.getStartTime(), slot.getEndTime(), originalStartTime, originalEndTime)
+                    && !slot.isAvailable()) {
+                slot.setAvailable(true);
+                changed.add(slot);
+            }
+        }
+
+        boolean targetScheduled = slots.stream().anyMatch(slot ->
+                (slot.getStartTime().equals(newStartTime) && slot.getEndTime().equals(newEndTime))
+                        || (slot.isAvailable() && AvailabilityTimeline.isOverlapping(
+                                slot.getStartTime(), slot.getEndTime(), newStartTime, newEndTime)));
+
+        if (!targetScheduled) {
+            ScheduleEntity slot = new ScheduleEntity();
+            slot.setDoctor(doctor);
+            slot.setStartTime(newStartTime);
+            slot.setEndTime(newEndTime);
+            slot.setAvailable(true);
+            changed.add(slot);
+        }
+
+        scheduleRepository.saveAll(changed);
+        occupancyCacheService.evict(doctor.getId(), originalStartTime, originalEndTime);
+        occupancyCacheService.evict(doctor.getId(), newStartTime, newEndTime);
+    }
+}
@@ -6,6 +6,7 @@ import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.repository.BlockedSlotRepository;
 import com.reservation.medical_reservation.repository.DoctorRepository;
 import com.reservation.medical_reservation.service.BlockedSlotService;
+import com.reservation.medical_reservation.service.OccupancyCacheService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,13 +19,16 @@ public class BlockedSlotServiceImpl implements BlockedSlotService {
     
     private final BlockedSlotRepository blockedSlotRepository;
     private final DoctorRepository doctorRepository;
+    private final OccupancyCacheService occupancyCacheService;
     private final ModelMapper modelMapper;
     
     public BlockedSlotServiceImpl(BlockedSlotRepository blockedSlotRepository,
                                 DoctorRepository doctorRepository,
+                                OccupancyCacheService occupancyCacheService,
                                 ModelMapper modelMapper) {
         this.blockedSlotRepository = blockedSlotRepository;
         this.doctorRepository = doctorRepository;
+        this.occupancyCacheService = occupancyCacheService;
         this.modelMapper = modelMapper;
     }
     
@@ -45,6 +49,7 @@ public class BlockedSlotServiceImpl implements BlockedSlotService {
         blockedSlot.setReason(blockedSlotDTO.getReason());
         
         BlockedSlotEntity saved = blockedSlotRepository.save(blockedSlot);
+        occupancyCacheService.markBusy(doctor.getId(), saved.getStartTime(), saved.getEndTime());
         
         BlockedSlotDTO result = modelMapper.map(saved, BlockedSlotDTO.class);
         result.setDoctorId(doctor.getId());
@@ -95,11 +100,14 @@ public class BlockedSlotServiceImpl implements BlockedSlotService {
             throw new IllegalArgumentException("Start time must be before end time");
         }
         
+        occupancyCacheService.evict(blockedSlot.getDoctor().getId(), blockedSlot.getStartTime(), blockedSlot.getEndTime());
+
         blockedSlot.setStartTime(blockedSlotDTO.getStartTime());
         blockedSlot.setEndTime(blockedSlotDTO.getEndTime());
         blockedSlot.setReason(blockedSlotDTO.getReason());
         
         BlockedSlotEntity updated = blockedSlotRepository.save(blockedSlot);
+        occupancyCacheService.markBusy(updated.getDoctor().getId(), updated.getStartTime(), updated.getEndTime());
         
         BlockedSlotDTO result = modelMapper.map(updated, BlockedSlotDTO.class);
         result.setDoctorId(blockedSlot.getDoctor().getId());
@@ -111,10 +119,10 @@ public class BlockedSlotServiceImpl implements BlockedSlotService {
     @Override
     @Transactional
     public void deleteBlockedSlot(Long blockedSlotId) {
-        if (!blockedSlotRepository.existsById(blockedSlotId)) {
-            throw new IllegalArgumentException("Blocked slot not found");
-        }
-        blockedSlotRepository.deleteById(blockedSlotId);
+        BlockedSlotEntity blockedSlot = blockedSlotRepository.findById(blockedSlotId)
+                .orElseThrow(() -> new IllegalArgumentException("Blocked slot not found"));
+        blockedSlotRepository.delete(blockedSlot);
+        occupancyCacheService.evict(blockedSlot.getDoctor().getId(), blockedSlot.getStartTime(), blockedSlot.getEndTime());
     }
     
     @Override
@@ -0,0 +1,112 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.repository.DoctorRepository;
+import com.reservation.medical_reservation.service.BookingLockService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+@Service
+public class BookingLockServiceImpl implements BookingLockService {
+
+    private static final long LOCK_NAMESPACE = 0x4D524553L << 32;
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final DoctorRepository doctorRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${booking.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${booking.retry.backoff-ms:50}")
+    private long backoffMillis;
+
+    public BookingLockServiceImpl(DoctorRepository doctorRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.doctorRepository = doctorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void verifyOverlapConstraint() {
+        if (!doctorRepository.hasBookingOverlapConstraint()) {
+            throw new IllegalStateException("Constraint appointments_doctor_no_overlap is missing; " +
+                    "bookings are not protected against overlaps. Run the database migrations before starting.");
+        }
+    }
+
+    @Override
+    public void lockDoctor(Long doctorId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Doctor booking lock requires an active transaction");
+        }
+        doctorRepository.acquireBookingLock(LOCK_NAMESPACE | doctorId);
+    }
+
+    @Override
+    public void lockDoctors(Collection<Long> doctorIds) {
+        doctorIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(this::lockDoctor);
+    }
+
+    @Override
+    public <T> T executeWithRetry(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return translate(action);
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> translate(action));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException("The doctor's calendar is busy right now. Please try again.", e);
+                }
+                sleep(backoffMillis * attempt);
+                attempt++;
+            } catch (DataIntegrityViolationException e) {
+                throw translateIntegrityViolation(e);
+            }
+        }
+    }
+
+    private <T> T translate(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e);
+        }
+    }
+
+    private RuntimeException translateIntegrityViolation(DataIntegrityViolationException e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return new IllegalArgumentException("Time slot is not available");
+            }
+            cause = cause.getCause();
+        }
+        return e;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying booking", e);
+        }
+    }
+}
@@ -4,20 +4,17 @@ import com.reservation.medical_reservation.model.dto.DoctorAvailabilityDTO;
 import com.reservation.medical_reservation.model.dto.ScheduleDTO;
 import com.reservation.medical_reservation.model.entity.DoctorAvailabilityEntity;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
-import com.reservation.medical_reservation.model.entity.ScheduleEntity;
 import com.reservation.medical_reservation.repository.DoctorAvailabilityRepository;
 import com.reservation.medical_reservation.repository.DoctorRepository;
-import com.reservation.medical_reservation.repository.ScheduleRepository;
 import com.reservation.medical_reservation.service.DoctorAvailabilityService;
+import com.reservation.medical_reservation.service.OccupancyCacheService;
+import com.reservation.medical_reservation.service.ScheduleService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,16 +23,19 @@ public class DoctorAvailabilityServiceImpl implements DoctorAvailabilityService
     
     private final DoctorAvailabilityRepository availabilityRepository;
     private final DoctorRepository doctorRepository;
-    private final ScheduleRepository scheduleRepository;
+    private final ScheduleService scheduleService;
+    private final OccupancyCacheService occupancyCacheService;
     private final ModelMapper modelMapper;
     
     public DoctorAvailabilityServiceImpl(DoctorAvailabilityRepository availabilityRepository,
                                        DoctorRepository doctorRepository,
-                                       ScheduleRepository scheduleRepository,
+                                       ScheduleService scheduleService,
+                                       OccupancyCacheService occupancyCacheService,
                                        ModelMapper modelMapper) {
         this.availabilityRepository = availabilityRepository;
         this.doctorRepository = doctorRepository;
-        this.scheduleRepository = scheduleRepository;
+        this.scheduleService = scheduleService;
+        this.occupancyCacheService = occupancyCacheService;
         this.modelMapper = modelMapper;
     }
     
@@ -55,6 +55,7 @@ public class DoctorAvailabilityServiceImpl implements DoctorAvailabilityService
         DoctorAvailabilityEntity availability = getDoctorAvailabilityEntity(availabilityDTO, existingAvailability, doctor);
 
         DoctorAvailabilityEntity saved = availabilityRepository.save(availability);
+        occupancyCacheService.evictDoctor(doctor.getId());
         
         DoctorAvailabilityDTO result = modelMapper.map(saved, DoctorAvailabilityDTO.class);
         result.setDoctorId(doctor.getId());
@@ -124,6 +125,7 @@ public class DoctorAvailabilityServiceImpl implements DoctorAvailabilityService
         availability.setSlotDuration(availabilityDTO.getSlotDuration());
         
         DoctorAvailabilityEntity updated = availabilityRepository.save(availability);
+        occupancyCacheService.evictDoctor(availability.getDoctor().getId());
         
         DoctorAvailabilityDTO result = modelMapper.map(updated, DoctorAvailabilityDTO.class);
         result.setDoctorId(availability.getDoctor().getId());
@@ -135,10 +137,10 @@ public class DoctorAvailabilityServiceImpl implements DoctorAvailabilityService
     @Override
     @Transactional
     public void deleteDoctorAvailability(Long availabilityId) {
-        if (!availabilityRepository.existsById(availabilityId)) {
-            throw new IllegalArgumentException("Availability not found");
-        }
-        availabilityRepository.deleteById(availabilityId);
+        DoctorAvailabilityEntity availability = availabilityRepository.findById(availabilityId)
+                .orElseThrow(() -> new IllegalArgumentException("Availability not found"));
+        availabilityRepository.delete(availability);
+        occupancyCacheService.evictDoctor(availability.getDoctor().getId());
     }
     
     @Override
@@ -148,93 +150,11 @@ public class DoctorAvailabilityServiceImpl implements DoctorAvailabilityService
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
         
         availabilityRepository.deleteByDoctorAndDayOfWeek(doctor, dayOfWeek);
+        occupancyCacheService.evictDoctor(doctorId);
     }
     
     @Override
     public List<ScheduleDTO> generateSlotsFromAvailability(Long doctorId, LocalDate startDate, LocalDate endDate) {
-        DoctorEntity doctor = doctorRepository.findById(doctorId)
-                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
-        
-        List<DoctorAvailabilityEntity> availabilities = availabilityRepository.findByDoctorOrderByDayOfWeek(doctor);
-        List<ScheduleDTO> generatedSlots = new ArrayList<>();
-        
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            DayOfWeek dayOfWeek = currentDate.getDayOfWeek();
-
-            LocalDate finalCurrentDate = currentDate;
-            availabilities.stream()
-                    .filter(availability -> availability.getDayOfWeek().equals(dayOfWeek))
-                    .findFirst()
-                    .ifPresent(availability -> {
-                        List<ScheduleDTO> daySlots = generateSlotsForDay(doctor, availability, finalCurrentDate);
-                        generatedSlots.addAll(daySlots);
-                    });
-            
-            currentDate = currentDate.plusDays(1);
-        }
-        
-        return generatedSlots;
-    }
-    
-    private List<ScheduleDTO> generateSlotsForDay(DoctorEntity doctor, DoctorAvailabilityEntity availability, LocalDate date) {
-        List<ScheduleDTO> slots = new ArrayList<>();
-        
-        LocalTime currentTime = availability.getStartTime();
-        LocalTime endTime = availability.getEndTime();
-        int slotDuration = availability.getSlotDuration();
-
-        LocalDateTime now = LocalDateTime.now();
-        if (date.equals(now.toLocalDate()) && currentTime.isBefore(now.toLocalTime())) {
-            
-            LocalTime nextSlotTime = now.toLocalTime();
-            
-            int minutesToNextSlot = slotDuration - (nextSlotTime.getMinute() % slotDuration);
-            if (minutesToNextSlot == slotDuration) {
-                minutesToNextSlot = 0; 
-            }
-            currentTime = nextSlotTime.plusMinutes(minutesToNextSlot);
-
-            if (currentTime.isAfter(endTime) || currentTime.equals(endTime)) {
-                return slots; 
-            }
-        }
-        
-        while (currentTime.isBefore(endTime)) {
-            LocalTime slotEndTime = currentTime.plusMinutes(slotDuration);
-
-            if (slotEndTime.isAfter(endTime)) {
-                break;
-            }
-            
-            LocalDateTime slotStart = LocalDateTime.of(date, currentTime);
-            LocalDateTime slotEnd = LocalDateTime.of(date, slotEndTime);
-
-            if (date.equals(now.toLocalDate()) && (slotStart.isBefore(now) || slotStart.equals(now))) {
-                currentTime = slotEndTime;
-                continue;
-            }
-
-            boolean slotExists = scheduleRepository.findByDoctorAndDateRange(doctor, slotStart, slotEnd)
-                    .stream()
-                    .anyMatch(schedule -> 
-                        schedule.getStartTime().equals(slotStart) && 
-                        schedule.getEndTime().equals(slotEnd));
-            
-            if (!slotExists) {
-                ScheduleDTO slot = new ScheduleDTO();
-                slot.setDoctorId(doctor.getId());
-                slot.setDoctorName(doctor.getUser().getFullName());
-                slot.setStartTime(slotStart);
-                slot.setEndTime(slotEnd);
-                slot.setAvailable(true);
-                
-                slots.add(slot);
-            }
-            
-            currentTime = slotEndTime;
-        }
-        
-        return slots;
+        return scheduleService.previewScheduleFromAvailability(doctorId, startDate, endDate);
     }
 }
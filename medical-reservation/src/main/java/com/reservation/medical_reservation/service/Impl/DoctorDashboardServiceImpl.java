@@ -0,0 +1,109 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.mapper.AppointmentMapper;
+import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.DoctorDashboardDTO;
+import com.reservation.medical_reservation.model.dto.DoctorDashboardStatsDTO;
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.projection.AppointmentRow;
+import com.reservation.medical_reservation.model.projection.AppointmentStatusCount;
+import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.service.DoctorDashboardService;
+import com.reservation.medical_reservation.util.DayRange;
+import com.reservation.medical_reservation.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class DoctorDashboardServiceImpl implements DoctorDashboardService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final Map<Long, CachedDashboard> dashboards = new ConcurrentHashMap<>();
+
+    @Value("${dashboard.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${dashboard.upcoming-limit:20}")
+    private int upcomingLimit;
+
+    public DoctorDashboardServiceImpl(AppointmentRepository appointmentRepository,
+                                      AppointmentMapper appointmentMapper) {
+        this.appointmentRepository = appointmentRepository;
+        this.appointmentMapper = appointmentMapper;
+    }
+
+    @Override
+    public DoctorDashboardDTO getDashboard(Long doctorId) {
+        long now = System.currentTimeMillis();
+        CachedDashboard cached = dashboards.get(doctorId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.dashboard();
+        }
+
+        DoctorDashboardDTO dashboard = load(doctorId);
+        if (ttlSeconds > 0) {
+            dashboards.put(doctorId, new CachedDashboard(dashboard, now + ttlSeconds * 1000));
+        }
+        return dashboard;
+    }
+
+    @Override
+    public void evictDoctor(Long doctorId) {
+        TransactionCallbacks.afterCommit(() -> dashboards.remove(doctorId));
+    }
+
+    @Override
+    public void evictAll() {
+        TransactionCallbacks.afterCommit(dashboards::clear);
+    }
+
+    private DoctorDashboardDTO load(Long doctorId) {
+        LocalDateTime now = LocalDateTime.now();
+        DayRange today = DayRange.of(LocalDate.now());
+
+        long todayCount = 0;
+        long upcomingCount = 0;
+        long confirmed = 0;
+        long pending = 0;
+        for (AppointmentStatusCount count : appointmentRepository.countByStatusForDoctor(doctorId, now, today.start(), today.end())) {
+            todayCount += count.today();
+            upcomingCount += count.upcoming();
+            if (count.status() == AppointmentStatus.CONFIRMED) {
+                confirmed = count.total();
+            } else if (count.status() == AppointmentStatus.PENDING) {
+                pending = count.total();
+            }
+        }
+
+        List<AppointmentDTO> todayAppointments = new ArrayList<>();
+        List<AppointmentDTO> upcomingAppointments = new ArrayList<>();
+        if (todayCount + upcomingCount > 0) {
+            List<AppointmentRow> rows = appointmentRepository.findRowsByDoctorFrom(
+                    doctorId, today.start(), Limit.of((int) todayCount + upcomingLimit));
+            for (AppointmentRow row : rows) {
+                AppointmentDTO dto = appointmentMapper.toDTO(row);
+                if (row.appointmentTime().isBefore(today.end())) {
+                    todayAppointments.add(dto);
+                }
+                if (row.appointmentTime().isAfter(now) && upcomingAppointments.size() < upcomingLimit) {
+                    upcomingAppointments.add(dto);
+                }
+            }
+        }
+
+        return new DoctorDashboardDTO(todayAppointments, upcomingAppointments,
+                new DoctorDashboardStatsDTO(todayCount, upcomingCount, confirmed, pending));
+    }
+
+    private record CachedDashboard(DoctorDashboardDTO dashboard, long expiresAt) {
+    }
+}
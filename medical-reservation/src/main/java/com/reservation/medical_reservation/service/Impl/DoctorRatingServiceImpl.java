@@ -1,5 +1,6 @@
 package com.reservation.medical_reservation.service.Impl;
 
+import com.reservation.medical_reservation.mapper.DoctorRatingMapper;
 import com.reservation.medical_reservation.model.dto.*;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.DoctorRatingEntity;
@@ -8,7 +9,7 @@ import com.reservation.medical_reservation.repository.DoctorRatingRepository;
 import com.reservation.medical_reservation.repository.DoctorRepository;
 import com.reservation.medical_reservation.repository.UserRepository;
 import com.reservation.medical_reservation.service.DoctorRatingService;
-import org.modelmapper.ModelMapper;
+import com.reservation.medical_reservation.service.StatisticsService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,16 +25,19 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
     private final DoctorRatingRepository doctorRatingRepository;
     private final DoctorRepository doctorRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final StatisticsService statisticsService;
+    private final DoctorRatingMapper doctorRatingMapper;
 
     public DoctorRatingServiceImpl(DoctorRatingRepository doctorRatingRepository,
                                  DoctorRepository doctorRepository,
                                  UserRepository userRepository,
-                                 ModelMapper modelMapper) {
+                                 StatisticsService statisticsService,
+                                 DoctorRatingMapper doctorRatingMapper) {
         this.doctorRatingRepository = doctorRatingRepository;
         this.doctorRepository = doctorRepository;
         this.userRepository = userRepository;
-        this.modelMapper = modelMapper;
+        this.statisticsService = statisticsService;
+        this.doctorRatingMapper = doctorRatingMapper;
     }
 
     @Override
@@ -56,10 +60,11 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
         rating.setComment(createRatingDTO.getComment());
 
         DoctorRatingEntity savedRating = doctorRatingRepository.save(rating);
+        statisticsService.recordRatingCreated(savedRating.getCreatedAt());
 
         updateDoctorRatingStats(doctor);
 
-        return convertToDTO(savedRating);
+        return doctorRatingMapper.toDTO(savedRating);
     }
 
     @Override
@@ -78,7 +83,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
 
         updateDoctorRatingStats(rating.getDoctor());
 
-        return convertToDTO(savedRating);
+        return doctorRatingMapper.toDTO(savedRating);
     }
 
     @Override
@@ -92,6 +97,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
 
         DoctorEntity doctor = rating.getDoctor();
         doctorRatingRepository.delete(rating);
+        statisticsService.recordRatingDeleted(rating.getCreatedAt());
 
         updateDoctorRatingStats(doctor);
     }
@@ -101,7 +107,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
     public List<DoctorRatingDTO> getDoctorRatings(Long doctorId) {
         List<DoctorRatingEntity> ratings = doctorRatingRepository.findByDoctorIdOrderByCreatedAtDesc(doctorId);
         return ratings.stream()
-                .map(this::convertToDTO)
+                .map(doctorRatingMapper::toDTO)
                 .toList();
     }
 
@@ -119,7 +125,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
             Optional<DoctorRatingEntity> userRating = doctorRatingRepository.findByDoctorIdAndUserId(doctorId, userId);
             stats.setUserHasRated(userRating.isPresent());
             if (userRating.isPresent()) {
-                stats.setUserRating(convertToDTO(userRating.get()));
+                stats.setUserRating(doctorRatingMapper.toDTO(userRating.get()));
             }
         } else {
             stats.setUserHasRated(false);
@@ -132,7 +138,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
     @Transactional(readOnly = true)
     public DoctorRatingDTO getUserRatingForDoctor(Long doctorId, Long userId) {
         Optional<DoctorRatingEntity> rating = doctorRatingRepository.findByDoctorIdAndUserId(doctorId, userId);
-        return rating.map(this::convertToDTO).orElse(null);
+        return rating.map(doctorRatingMapper::toDTO).orElse(null);
     }
 
     @Override
@@ -143,7 +149,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
         
         List<DoctorRatingEntity> ratings = doctorRatingRepository.findByUserOrderByCreatedAtDesc(user);
         return ratings.stream()
-                .map(this::convertToDTO)
+                .map(doctorRatingMapper::toDTO)
                 .toList();
     }
 
@@ -161,7 +167,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
     @Transactional(readOnly = true)
     public Page<DoctorRatingDTO> getAllRatings(Pageable pageable) {
         Page<DoctorRatingEntity> ratings = doctorRatingRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return ratings.map(this::convertToDTO);
+        return ratings.map(doctorRatingMapper::toDTO);
     }
 
     @Override
@@ -172,14 +178,7 @@ public class DoctorRatingServiceImpl implements DoctorRatingService {
 
         DoctorEntity doctor = rating.getDoctor();
         doctorRatingRepository.delete(rating);
+        statisticsService.recordRatingDeleted(rating.getCreatedAt());
         updateDoctorRatingStats(doctor);
     }
-
-    private DoctorRatingDTO convertToDTO(DoctorRatingEntity rating) {
-        DoctorRatingDTO dto = modelMapper.map(rating, DoctorRatingDTO.class);
-        dto.setDoctorId(rating.getDoctor().getId());
-        dto.setUserId(rating.getUser().getId());
-        dto.setUserFullName(rating.getUser().getFullName());
-        return dto;
-    }
 }
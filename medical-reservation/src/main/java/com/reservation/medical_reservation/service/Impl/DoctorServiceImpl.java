@@ -1,5 +1,6 @@
 package com.reservation.medical_reservation.service.Impl;
 
+import com.reservation.medical_reservation.mapper.DoctorMapper;
 import com.reservation.medical_reservation.model.dto.DoctorDTO;
 import com.reservation.medical_reservation.model.dto.DoctorPatientDTO;
 import com.reservation.medical_reservation.model.dto.UserDTO;
@@ -11,6 +12,7 @@ import com.reservation.medical_reservation.model.enums.AppointmentStatus;
 import com.reservation.medical_reservation.repository.DoctorRepository;
 import com.reservation.medical_reservation.repository.AppointmentRepository;
 import com.reservation.medical_reservation.service.DoctorService;
+import com.reservation.medical_reservation.service.StatisticsService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,11 +27,16 @@ public class DoctorServiceImpl implements DoctorService {
 
     private final DoctorRepository doctorRepository;
     private final AppointmentRepository appointmentRepository;
+    private final StatisticsService statisticsService;
+    private final DoctorMapper doctorMapper;
     private final ModelMapper modelMapper;
 
-    public DoctorServiceImpl(DoctorRepository doctorRepository, AppointmentRepository appointmentRepository, ModelMapper modelMapper) {
+    public DoctorServiceImpl(DoctorRepository doctorRepository, AppointmentRepository appointmentRepository,
+                             StatisticsService statisticsService, DoctorMapper doctorMapper, ModelMapper modelMapper) {
         this.doctorRepository = doctorRepository;
         this.appointmentRepository = appointmentRepository;
+        this.statisticsService = statisticsService;
+        this.doctorMapper = doctorMapper;
         this.modelMapper = modelMapper;
     }
 
@@ -37,7 +44,7 @@ public class DoctorServiceImpl implements DoctorService {
     public List<DoctorDTO> getAllDoctors() {
         return doctorRepository.findAll()
                 .stream()
-                .map(this::convertToDTO)
+                .map(doctorMapper::toDTO)
                 .toList();
     }
 
@@ -45,7 +52,7 @@ public class DoctorServiceImpl implements DoctorService {
     public List<DoctorDTO> getActiveDoctors() {
         return doctorRepository.findByIsActiveTrue()
                 .stream()
-                .map(this::convertToDTO)
+                .map(doctorMapper::toDTO)
                 .toList();
     }
 
@@ -53,21 +60,21 @@ public class DoctorServiceImpl implements DoctorService {
     public DoctorDTO getDoctorById(Long id) {
         DoctorEntity doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
-        return convertToDTO(doctor);
+        return doctorMapper.toDTO(doctor);
     }
 
     @Override
     public DoctorDTO getDoctorByUserId(Long userId) {
         DoctorEntity doctor = doctorRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found for user"));
-        return convertToDTO(doctor);
+        return doctorMapper.toDTO(doctor);
     }
 
     @Override
     public List<DoctorDTO> getDoctorsBySpecialization(String specialization) {
         return doctorRepository.findBySpecializationAndIsActiveTrue(specialization)
                 .stream()
-                .map(this::convertToDTO)
+                .map(doctorMapper::toDTO)
                 .toList();
     }
 
@@ -89,7 +96,7 @@ public class DoctorServiceImpl implements DoctorService {
         doctor.setPrice(doctorDTO.getPrice());
 
         DoctorEntity updated = doctorRepository.save(doctor);
-        return convertToDTO(updated);
+        return doctorMapper.toDTO(updated);
     }
 
     @Override
@@ -97,8 +104,10 @@ public class DoctorServiceImpl implements DoctorService {
     public void activateDoctor(Long id) {
         DoctorEntity doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
+        boolean wasActive = Boolean.TRUE.equals(doctor.getIsActive());
         doctor.setIsActive(true);
         doctorRepository.save(doctor);
+        statisticsService.recordDoctorActivationChanged(wasActive, true);
     }
 
     @Override
@@ -106,8 +115,10 @@ public class DoctorServiceImpl implements DoctorService {
     public void deactivateDoctor(Long id) {
         DoctorEntity doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
+        boolean wasActive = Boolean.TRUE.equals(doctor.getIsActive());
         doctor.setIsActive(false);
         doctorRepository.save(doctor);
+        statisticsService.recordDoctorActivationChanged(wasActive, false);
     }
 
     @Override
@@ -119,7 +130,7 @@ public class DoctorServiceImpl implements DoctorService {
             
             List<DoctorEntity> doctors = doctorRepository.searchDoctors(searchTerm.trim());
             return doctors.stream()
-                    .map(this::convertToDTO)
+                    .map(doctorMapper::toDTO)
                     .toList();
         } catch (Exception e) {
             System.err.println("Error searching doctors: " + e.getMessage());
@@ -143,7 +154,7 @@ public class DoctorServiceImpl implements DoctorService {
                     specialization != null && !specialization.trim().isEmpty() ? specialization.trim() : null
             );
             return doctors.stream()
-                    .map(this::convertToDTO)
+                    .map(doctorMapper::toDTO)
                     .toList();
         } catch (Exception e) {
             System.err.println("Error searching doctors with specialization: " + e.getMessage());
@@ -213,14 +224,14 @@ public class DoctorServiceImpl implements DoctorService {
         
         List<AppointmentEntity> patientAppointments = appointmentRepository.findByPatientOrderByAppointmentTimeDesc(patient);
         LocalDateTime lastVisit = patientAppointments.stream()
-                .filter(apt -> apt.getDoctor().equals(doctor) && apt.getStatus() == AppointmentStatus.COMPLETED)
+                .filter(apt -> apt.getDoctor().getId().equals(doctor.getId()) && apt.getStatus() == AppointmentStatus.COMPLETED)
                 .map(AppointmentEntity::getAppointmentTime)
                 .findFirst()
                 .orElse(null);
         dto.setLastVisit(lastVisit);
         
         LocalDateTime nextAppointment = patientAppointments.stream()
-                .filter(apt -> apt.getDoctor().equals(doctor) && 
+                .filter(apt -> apt.getDoctor().getId().equals(doctor.getId()) && 
                              apt.getAppointmentTime().isAfter(LocalDateTime.now()) &&
                              (apt.getStatus() == AppointmentStatus.CONFIRMED || apt.getStatus() == AppointmentStatus.PENDING))
                 .map(AppointmentEntity::getAppointmentTime)
@@ -241,13 +252,4 @@ public class DoctorServiceImpl implements DoctorService {
         
         return dto;
     }
-
-    private DoctorDTO convertToDTO(DoctorEntity doctor) {
-        DoctorDTO dto = modelMapper.map(doctor, DoctorDTO.class);
-        dto.setUserId(doctor.getUser().getId());
-        dto.setFullName(doctor.getUser().getFullName());
-        dto.setEmail(doctor.getUser().getEmail());
-        dto.setPhoneNumber(doctor.getUser().getPhoneNumber());
-        return dto;
-    }
 }
@@ -0,0 +1,128 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.medical_reservation.mapper.AppointmentMapper;
+import com.reservation.medical_reservation.model.enums.ExportFormat;
+import com.reservation.medical_reservation.model.projection.AppointmentRow;
+import com.reservation.medical_reservation.model.projection.UserExportRow;
+import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.ExportService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final String[] USER_COLUMNS = {
+            "id", "fullName", "email", "phoneNumber", "role", "isActive", "deactivationType", "lastLogin", "createdAt"
+    };
+
+    private static final String[] APPOINTMENT_COLUMNS = {
+            "id", "patientId", "patientName", "patientEmail", "doctorId", "doctorName", "doctorSpecialization",
+            "serviceId", "serviceName", "appointmentTime", "endTime", "status", "notes", "cancellationReason"
+    };
+
+    private final UserRepository userRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate exportTransaction;
+
+    public ExportServiceImpl(UserRepository userRepository,
+                             AppointmentRepository appointmentRepository,
+                             AppointmentMapper appointmentMapper,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.appointmentMapper = appointmentMapper;
+        this.objectMapper = objectMapper;
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void exportUsers(ExportFormat format, OutputStream out) throws IOException {
+        export(out, userRepository::streamExportRows, USER_COLUMNS, format, row -> switch (format) {
+            case NDJSON -> objectMapper.writeValueAsString(row);
+            case CSV -> csvLine(row.id(), row.fullName(), row.email(), row.phoneNumber(), row.role(),
+                    row.isActive(), row.deactivationType(), row.lastLogin(), row.createdAt());
+        });
+    }
+
+    @Override
+    public void exportAppointments(ExportFormat format, OutputStream out) throws IOException {
+        export(out, appointmentRepository::streamAllRows, APPOINTMENT_COLUMNS, format, row -> switch (format) {
+            case NDJSON -> objectMapper.writeValueAsString(appointmentMapper.toDTO(row));
+            case CSV -> csvLine(row.id(), row.patientId(), row.patientName(), row.patientEmail(), row.doctorId(),
+                    row.doctorName(), row.doctorSpecialization(), row.serviceId(), row.serviceName(),
+                    row.appointmentTime(), row.endTime(), row.status(), row.notes(), row.cancellationReason());
+        });
+    }
+
+    private <T> void export(OutputStream out, Supplier<Stream<T>> rows, String[] columns,
+                            ExportFormat format, RowWriter<T> rowWriter) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(csvLine((Object[]) columns));
+            writer.write('\n');
+        }
+
+        try {
+            exportTransaction.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    Iterator<T> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        writer.write(rowWriter.write(iterator.next()));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private String csvLine(Object... values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(csvValue(values[i]));
+        }
+        return line.toString();
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        String write(T row) throws IOException;
+    }
+}
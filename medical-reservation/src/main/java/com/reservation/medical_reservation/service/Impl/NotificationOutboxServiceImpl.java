@@ -0,0 +1,224 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.model.dto.NotificationOutboxStatsDTO;
+import com.reservation.medical_reservation.model.entity.NotificationEntity;
+import com.reservation.medical_reservation.model.entity.NotificationOutboxEntity;
+import com.reservation.medical_reservation.repository.NotificationOutboxRepository;
+import com.reservation.medical_reservation.repository.NotificationRepository;
+import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.NotificationOutboxService;
+import com.reservation.medical_reservation.service.NotificationStreamService;
+import com.reservation.medical_reservation.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxServiceImpl.class);
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationStreamService notificationStreamService;
+    private final TransactionTemplate writeTransaction;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong totalFlushMs = new AtomicLong();
+    private final AtomicLong maxFlushMs = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastFlushMs;
+
+    public NotificationOutboxServiceImpl(NotificationOutboxRepository outboxRepository,
+                                         NotificationRepository notificationRepository,
+                                         UserRepository userRepository,
+                                         NotificationStreamService notificationStreamService,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${notifications.outbox.enabled:true}") boolean enabled,
+                                         @Value("${notifications.outbox.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.notificationStreamService = notificationStreamService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void submit(List<NotificationEntity> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!enabled) {
+            for (NotificationEntity notification : notifications) {
+                if (notification.getCreatedAt() == null) {
+                    notification.setCreatedAt(now);
+                }
+            }
+            notificationStreamService.publish(save(notifications));
+            return;
+        }
+
+        List<NotificationOutboxEntity> pending = new ArrayList<>(notifications.size());
+        for (NotificationEntity notification : notifications) {
+            NotificationOutboxEntity entry = new NotificationOutboxEntity();
+            entry.setUser(notification.getUser());
+            entry.setTitle(notification.getTitle());
+            entry.setMessage(notification.getMessage());
+            entry.setType(notification.getType());
+            entry.setCreatedAt(notification.getCreatedAt() != null ? notification.getCreatedAt() : now);
+            pending.add(entry);
+        }
+        outboxRepository.saveAll(pending);
+        TransactionCallbacks.afterCommit(() -> enqueued.addAndGet(pending.size()));
+    }
+
+    @Override
+    public void flush() {
+        flushLock.lock();
+        try {
+            int drained;
+            do {
+                drained = writeBatch();
+            } while (drained == batchSize);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public NotificationOutboxStatsDTO getStats() {
+        long batchCount = batches.get();
+        return new NotificationOutboxStatsDTO(
+                enabled,
+                outboxRepository.count(),
+                enqueued.get(),
+                written.get(),
+                dropped.get(),
+                batchCount,
+                lastBatchSize,
+                batchCount == 0 ? 0 : (double) written.get() / batchCount,
+                lastFlushMs,
+                maxFlushMs.get(),
+                batchCount == 0 ? 0 : (double) totalFlushMs.get() / batchCount);
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.flush-interval-ms:200}",
+            initialDelayString = "${notifications.outbox.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Notification outbox flush failed, pending notifications stay queued", e);
+        }
+    }
+
+    private int writeBatch() {
+        long started = System.currentTimeMillis();
+        List<Long> ids;
+        List<NotificationEntity> saved;
+        try {
+            ids = new ArrayList<>(batchSize);
+            saved = writeTransaction.execute(status -> {
+                ids.addAll(outboxRepository.claimBatch(batchSize));
+                return ids.isEmpty() ? List.of() : deliver(ids);
+            });
+        } catch (NonTransientDataAccessException e) {
+            return writeIndividually(outboxRepository.findPendingIds(batchSize));
+        }
+
+        if (saved == null || saved.isEmpty()) {
+            return 0;
+        }
+        recordBatch(saved.size(), System.currentTimeMillis() - started);
+        return ids.size();
+    }
+
+    private int writeIndividually(List<Long> ids) {
+        for (Long id : ids) {
+            long started = System.currentTimeMillis();
+            try {
+                List<NotificationEntity> saved = writeTransaction.execute(status ->
+                        outboxRepository.claim(id).isEmpty() ? List.of() : deliver(List.of(id)));
+                if (saved != null && !saved.isEmpty()) {
+                    recordBatch(saved.size(), System.currentTimeMillis() - started);
+                }
+            } catch (NonTransientDataAccessException e) {
+                outboxRepository.deleteAllByIdInBatch(List.of(id));
+                dropped.incrementAndGet();
+                log.warn("Dropping notification outbox entry {}: {}", id, e.getMessage());
+            }
+        }
+        return ids.size();
+    }
+
+    private List<NotificationEntity> deliver(List<Long> ids) {
+        List<NotificationOutboxEntity> claimed = outboxRepository.findAllById(ids);
+        List<NotificationEntity> notifications = save(toNotifications(claimed));
+        outboxRepository.deleteAllByIdInBatch(ids);
+        notificationStreamService.publish(notifications);
+        return notifications;
+    }
+
+    private List<NotificationEntity> save(List<NotificationEntity> notifications) {
+        List<NotificationEntity> saved = notificationRepository.saveAll(notifications);
+        Map<Long, Long> unreadByUser = new HashMap<>();
+        for (NotificationEntity notification : notifications) {
+            unreadByUser.merge(notification.getUser().getId(), 1L, Long::sum);
+        }
+        unreadByUser.forEach(userRepository::adjustUnreadNotifications);
+        return saved;
+    }
+
+    private List<NotificationEntity> toNotifications(List<NotificationOutboxEntity> claimed) {
+        List<NotificationEntity> notifications = new ArrayList<>(claimed.size());
+        for (NotificationOutboxEntity entry : claimed) {
+            NotificationEntity notification = new NotificationEntity();
+            notification.setUser(entry.getUser());
+            notification.setTitle(entry.getTitle());
+            notification.setMessage(entry.getMessage());
+            notification.setType(entry.getType());
+            notification.setRead(false);
+            notification.setCreatedAt(entry.getCreatedAt());
+            notifications.add(notification);
+        }
+        return notifications;
+    }
+
+    private void recordBatch(int size, long durationMs) {
+        written.addAndGet(size);
+        batches.incrementAndGet();
+        totalFlushMs.addAndGet(durationMs);
+        maxFlushMs.accumulateAndGet(durationMs, Math::max);
+        lastBatchSize = size;
+        lastFlushMs = durationMs;
+    }
+}
@@ -0,0 +1,238 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.model.dto.RetentionRunDTO;
+import com.reservation.medical_reservation.model.enums.NotificationType;
+import com.reservation.medical_reservation.repository.NotificationRepository;
+import com.reservation.medical_reservation.service.NotificationRetentionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+@Service
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionServiceImpl.class);
+    private static final String ARCHIVE_TABLE = "notifications_archive";
+    private static final String PARTITION_PREFIX = ARCHIVE_TABLE + "_y";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy'm'MM");
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Environment environment;
+    private final TransactionTemplate chunkTransaction;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final TaskExecutor runner;
+    private volatile RetentionRunDTO lastRun;
+
+    @Value("${notifications.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.retention.default-ttl-days:90}")
+    private int defaultTtlDays;
+
+    @Value("${notifications.retention.archive-months:12}")
+    private int archiveMonths;
+
+    @Value("${notifications.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notifications.retention.max-chunks:500}")
+    private int maxChunks;
+
+    @Value("${notifications.retention.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    public NotificationRetentionServiceImpl(NotificationRepository notificationRepository,
+                                            JdbcTemplate jdbcTemplate,
+                                            Environment environment,
+                                            PlatformTransactionManager transactionManager,
+                                            @Qualifier("backgroundJobExecutor") TaskExecutor runner) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.environment = environment;
+        this.runner = runner;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(cron = "${notifications.retention.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Skipping scheduled notification retention, a run is already in progress");
+            return;
+        }
+
+        try {
+            run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public RetentionRunDTO runRetention() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Notification retention is already running");
+        }
+
+        try {
+            return run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public boolean startRetention() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            runner.execute(() -> {
+                try {
+                    run();
+                } catch (RuntimeException e) {
+                    log.error("Notification retention failed", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private RetentionRunDTO run() {
+        long started = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        YearMonth currentMonth = YearMonth.from(startedAt);
+
+        int partitionsCreated = createPartition(currentMonth) + createPartition(currentMonth.plusMonths(1));
+
+        Budget budget = new Budget(Math.max(1, maxChunks));
+        int readArchived = 0;
+        for (NotificationType type : NotificationType.values()) {
+            LocalDateTime cutoff = startedAt.minusDays(ttlDays(type));
+            readArchived += archiveInChunks(budget, () ->
+                    notificationRepository.archiveReadChunk(type.name(), cutoff, startedAt, chunkSize));
+        }
+
+        int partitionsDropped = dropPartitionsBefore(currentMonth.minusMonths(archiveMonths));
+
+        RetentionRunDTO run = new RetentionRunDTO(startedAt, LocalDateTime.now(), readArchived,
+                budget.used, partitionsCreated, partitionsDropped, System.currentTimeMillis() - started);
+        lastRun = run;
+
+        log.info("Notification retention finished: {} read notifications archived in {} chunks, {} partitions dropped in {} ms",
+                readArchived, budget.used, partitionsDropped, run.getDurationMs());
+        return run;
+    }
+
+    @Override
+    public RetentionRunDTO getLastRun() {
+        return lastRun;
+    }
+
+    private int archiveInChunks(Budget budget, IntSupplier chunk) {
+        int total = 0;
+        while (budget.used < budget.limit) {
+            Integer moved = chunkTransaction.execute(status -> chunk.getAsInt());
+            budget.used++;
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int ttlDays(NotificationType type) {
+        return environment.getProperty("notifications.retention.ttl-days." + type.name(), Integer.class, defaultTtlDays);
+    }
+
+    private int createPartition(YearMonth month) {
+        String name = PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name);
+        if (Boolean.TRUE.equals(exists)) {
+            return 0;
+        }
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + ARCHIVE_TABLE +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        return 1;
+    }
+
+    private int dropPartitionsBefore(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?", String.class, ARCHIVE_TABLE);
+
+        int dropped = 0;
+        for (String partition : partitions) {
+            if (!partition.startsWith(PARTITION_PREFIX)) {
+                continue;
+            }
+            YearMonth month;
+            try {
+                month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            } catch (RuntimeException e) {
+                continue;
+            }
+            if (month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private static final class Budget {
+        private final int limit;
+        private int used;
+
+        private Budget(int limit) {
+            this.limit = limit;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.reservation.medical_reservation.service.Impl;
 
+import com.reservation.medical_reservation.mapper.NotificationMapper;
 import com.reservation.medical_reservation.model.dto.NotificationDTO;
 import com.reservation.medical_reservation.model.entity.NotificationEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
 import com.reservation.medical_reservation.model.enums.NotificationType;
 import com.reservation.medical_reservation.repository.NotificationRepository;
 import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.NotificationOutboxService;
 import com.reservation.medical_reservation.service.NotificationService;
-import org.modelmapper.ModelMapper;
+import com.reservation.medical_reservation.service.NotificationStreamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -18,14 +26,23 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final NotificationMapper notificationMapper;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationStreamService notificationStreamService;
+
+    @Value("${notifications.list.max-size:100}")
+    private int maxListSize;
 
     public NotificationServiceImpl(NotificationRepository notificationRepository, 
                                  UserRepository userRepository, 
-                                 ModelMapper modelMapper) {
+                                 NotificationMapper notificationMapper,
+                                 NotificationOutboxService notificationOutboxService,
+                                 NotificationStreamService notificationStreamService) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
-        this.modelMapper = modelMapper;
+        this.notificationMapper = notificationMapper;
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationStreamService = notificationStreamService;
     }
 
     @Override
@@ -38,62 +55,86 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setType(type);
         notification.setRead(false);
         
-        notificationRepository.save(notification);
+        notificationOutboxService.submit(List.of(notification));
+    }
+
+    @Override
+    @Transactional
+    public void createNotifications(List<NotificationEntity> notifications) {
+        notificationOutboxService.submit(notifications);
     }
 
     @Override
     public List<NotificationDTO> getNotificationsByUser(Long userId) {
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        requireUser(userId);
         
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user)
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, Limit.of(maxListSize))
                 .stream()
-                .map(notification -> modelMapper.map(notification, NotificationDTO.class))
+                .map(notificationMapper::toDTO)
                 .toList();
     }
 
     @Override
     public List<NotificationDTO> getUnreadNotificationsByUser(Long userId) {
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        requireUser(userId);
         
-        return notificationRepository.findByUserAndReadFalseOrderByCreatedAtDesc(user)
+        return notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(userId, Limit.of(maxListSize))
                 .stream()
-                .map(notification -> modelMapper.map(notification, NotificationDTO.class))
+                .map(notificationMapper::toDTO)
                 .toList();
     }
 
+    @Override
+    public Page<NotificationDTO> getNotificationsPage(Long userId, Pageable pageable) {
+        requireUser(userId);
+        
+        Pageable capped = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), maxListSize));
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, capped)
+                .map(notificationMapper::toDTO);
+    }
+
     @Override
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
-        NotificationEntity notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
+        int updated = notificationRepository.markReadByIdsForUser(List.of(notificationId), userId);
+        if (updated == 0) {
+            NotificationEntity notification = notificationRepository.findById(notificationId)
+                    .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
+            
+            if (!notification.getUser().getId().equals(userId)) {
+                throw new IllegalArgumentException("Unauthorized access to notification");
+            }
+        }
         
-        if (!notification.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Unauthorized access to notification");
+        adjustUnread(userId, -updated);
+    }
+
+    @Override
+    @Transactional
+    public int markAsRead(Collection<Long> notificationIds, Long userId) {
+        if (notificationIds.isEmpty()) {
+            return 0;
         }
         
-        notification.setRead(true);
-        notificationRepository.save(notification);
+        int updated = notificationRepository.markReadByIdsForUser(notificationIds, userId);
+        adjustUnread(userId, -updated);
+        return updated;
     }
 
     @Override
     @Transactional
     public void markAllAsRead(Long userId) {
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
         
-        List<NotificationEntity> unreadNotifications = notificationRepository.findByUserAndReadFalseOrderByCreatedAtDesc(user);
-        unreadNotifications.forEach(notification -> notification.setRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+        adjustUnread(userId, -notificationRepository.markAllReadByUserId(userId));
     }
 
     @Override
     public long getUnreadCount(Long userId) {
-        UserEntity user = userRepository.findById(userId)
+        return userRepository.findUnreadNotificationsById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        
-        return notificationRepository.countByUserAndReadFalse(user);
     }
 
     @Override
@@ -112,29 +153,49 @@ public class NotificationServiceImpl implements NotificationService {
         NotificationEntity notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
         
-        notification.setRead(true);
-        notificationRepository.save(notification);
+        adjustUnread(notification.getUser().getId(), -notificationRepository.markReadByIds(List.of(notificationId)));
     }
 
     @Override
     @Transactional
     public void deleteNotification(Long notificationId) {
-        NotificationEntity notification = notificationRepository.findById(notificationId)
+        Long userId = notificationRepository.findUserIdById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
         
-        notificationRepository.delete(notification);
+        if (notificationRepository.deleteByIdAndRead(notificationId, false) == 1) {
+            adjustUnread(userId, -1);
+        } else if (notificationRepository.deleteByIdAndRead(notificationId, true) == 0) {
+            throw new IllegalArgumentException("Notification not found");
+        }
     }
 
     @Override
     @Transactional
     public void deleteNotification(Long notificationId, Long userId) {
-        NotificationEntity notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
-        
-        if (!notification.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Unauthorized access to notification");
+        if (notificationRepository.deleteByIdForUserAndRead(notificationId, userId, false) == 1) {
+            adjustUnread(userId, -1);
+            return;
+        }
+        if (notificationRepository.deleteByIdForUserAndRead(notificationId, userId, true) == 1) {
+            return;
         }
         
-        notificationRepository.delete(notification);
+        notificationRepository.findUserIdById(notificationId)
+                .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
+        throw new IllegalArgumentException("Unauthorized access to notification");
+    }
+
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+    }
+
+    private void adjustUnread(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        userRepository.adjustUnreadNotifications(userId, delta);
+        notificationStreamService.publishUnreadCount(userId);
     }
 }
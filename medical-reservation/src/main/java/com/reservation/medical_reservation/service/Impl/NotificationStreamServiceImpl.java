@@ -0,0 +1,364 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.mapper.NotificationMapper;
+import com.reservation.medical_reservation.model.dto.UnreadCountEventDTO;
+import com.reservation.medical_reservation.model.entity.NotificationEntity;
+import com.reservation.medical_reservation.repository.NotificationRepository;
+import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.NotificationStreamService;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Server-sent notification streams. Emitters live on the node that accepted the connection, so
+ * publishing never writes to them directly: it issues a {@code pg_notify} inside the writing
+ * transaction, and every node's listener relays the committed message to its own subscribers.
+ * Messages arrive in commit order and carry the user's unread count as of that commit.
+ */
+@Service
+public class NotificationStreamServiceImpl implements NotificationStreamService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationStreamServiceImpl.class);
+    private static final String NOTIFICATION_EVENT = "notification";
+    private static final String UNREAD_COUNT_EVENT = "unread-count";
+    private static final String CHANNEL = "notification_stream";
+    private static final String NOTIFICATION_MESSAGE = "N";
+    private static final String UNREAD_COUNT_MESSAGE = "U";
+    private static final int IDS_PER_MESSAGE = 200;
+    private static final String NOTIFY_SQL = "SELECT pg_notify('" + CHANNEL + "', " +
+            "? || ':' || id || ':' || unread_notifications || ':' || ?) FROM users WHERE id = ?";
+
+    private final UserRepository userRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationMapper notificationMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final TaskExecutor sender;
+    private final TaskExecutor listener;
+    private volatile boolean listening;
+    private volatile Connection listenerConnection;
+
+    @Value("${notifications.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notifications.stream.max-per-user:5}")
+    private int maxPerUser;
+
+    @Value("${notifications.stream.max-pending-events:100}")
+    private int maxPendingEvents;
+
+    @Value("${notifications.stream.listener-timeout-ms:10000}")
+    private int listenerTimeoutMs;
+
+    @Value("${notifications.stream.listener-reconnect-ms:5000}")
+    private long listenerReconnectMs;
+
+    public NotificationStreamServiceImpl(UserRepository userRepository,
+                                         NotificationRepository notificationRepository,
+                                         NotificationMapper notificationMapper,
+                                         JdbcTemplate jdbcTemplate,
+                                         DataSourceProperties dataSourceProperties,
+                                         @Qualifier("notificationStreamExecutor") TaskExecutor sender,
+                                         @Qualifier("notificationListenerExecutor") TaskExecutor listener) {
+        this.userRepository = userRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationMapper = notificationMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.sender = sender;
+        this.listener = listener;
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, current) -> {
+            List<Subscriber> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(subscriber);
+            while (list.size() > maxPerUser) {
+                evicted.add(list.remove(0));
+            }
+            return list;
+        });
+        subscriberCount.addAndGet(1 - evicted.size());
+        evicted.forEach(this::close);
+
+        long unread = userRepository.findUnreadNotificationsById(userId).orElse(0L);
+        enqueue(subscriber, new Event(UNREAD_COUNT_EVENT, new UnreadCountEventDTO(unread)));
+        return emitter;
+    }
+
+    @Override
+    public void publish(List<NotificationEntity> notifications) {
+        Map<Long, List<Long>> idsByUser = new LinkedHashMap<>();
+        for (NotificationEntity notification : notifications) {
+            idsByUser.computeIfAbsent(notification.getUser().getId(), id -> new ArrayList<>()).add(notification.getId());
+        }
+
+        idsByUser.forEach((userId, ids) -> {
+            for (int from = 0; from < ids.size(); from += IDS_PER_MESSAGE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + IDS_PER_MESSAGE));
+                notifyChannel(NOTIFICATION_MESSAGE, userId, chunk.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            }
+        });
+    }
+
+    @Override
+    public void publishUnreadCount(Long userId) {
+        notifyChannel(UNREAD_COUNT_MESSAGE, userId, "");
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Scheduled(fixedRateString = "${notifications.stream.heartbeat-seconds:25}",
+            initialDelayString = "${notifications.stream.heartbeat-seconds:25}", timeUnit = TimeUnit.SECONDS)
+    public void sendHeartbeats() {
+        Event ping = new Event(null, "ping");
+        subscribers.values().forEach(list -> list.forEach(subscriber -> {
+            if (subscriber.pendingCount.get() == 0) {
+                enqueue(subscriber, ping);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void closeSubscribers() {
+        subscribers.values().forEach(list -> list.forEach(this::close));
+    }
+
+    @Override
+    public void start() {
+        listening = true;
+        listener.execute(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        listening = false;
+        Connection connection = listenerConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listening;
+    }
+
+    private void notifyChannel(String type, Long userId, String ids) {
+        jdbcTemplate.query(NOTIFY_SQL, rs -> null, type, ids, userId);
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (listening) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    resyncUnreadCounts();
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (listening) {
+                    PGNotification[] notifications = pgConnection.getNotifications(listenerTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            try {
+                                relay(notification.getParameter());
+                            } catch (RuntimeException e) {
+                                log.warn("Could not relay notification stream message {}: {}",
+                                        notification.getParameter(), e.getMessage());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (listening) {
+                    log.warn("Notification stream listener lost its connection, reconnecting: {}", e.getMessage());
+                    reconnecting = true;
+                    pause();
+                }
+            } finally {
+                listenerConnection = null;
+            }
+        }
+    }
+
+    private void relay(String payload) {
+        String[] parts = payload.split(":", 4);
+        Long userId = Long.valueOf(parts[1]);
+        if (!subscribers.containsKey(userId)) {
+            return;
+        }
+
+        List<Event> events = new ArrayList<>();
+        if (NOTIFICATION_MESSAGE.equals(parts[0])) {
+            List<Long> ids = Arrays.stream(parts[3].split(",")).map(Long::valueOf).toList();
+            notificationRepository.findAllById(ids).stream()
+                    .sorted(Comparator.comparing(NotificationEntity::getId))
+                    .forEach(notification -> events.add(new Event(NOTIFICATION_EVENT, notificationMapper.toDTO(notification))));
+        }
+        events.add(new Event(UNREAD_COUNT_EVENT, new UnreadCountEventDTO(Long.parseLong(parts[2]))));
+        send(userId, events);
+    }
+
+    private void resyncUnreadCounts() {
+        for (Long userId : subscribers.keySet()) {
+            long unread = userRepository.findUnreadNotificationsById(userId).orElse(0L);
+            send(userId, List.of(new Event(UNREAD_COUNT_EVENT, new UnreadCountEventDTO(unread))));
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(listenerReconnectMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            listening = false;
+        }
+    }
+
+    private void send(Long userId, List<Event> events) {
+        List<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            events.forEach(event -> enqueue(subscriber, event));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Event event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (subscriber.pendingCount.incrementAndGet() > maxPendingEvents) {
+            log.warn("Closing slow notification stream for user {}", subscriber.userId);
+            close(subscriber);
+            return;
+        }
+        subscriber.pending.add(event);
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Event event;
+            while (!subscriber.closed && (event = subscriber.pending.poll()) != null) {
+                subscriber.pendingCount.decrementAndGet();
+                subscriber.emitter.send(event.toBuilder());
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (!subscriber.closed && !subscriber.pending.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        remove(subscriber);
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.userId, (id, list) -> {
+            removed.set(list.remove(subscriber));
+            return list.isEmpty() ? null : list;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private record Event(String name, Object data) {
+
+        SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) {
+                return SseEmitter.event().comment(data.toString());
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<Event> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.model.entity.AppointmentEntity;
+import com.reservation.medical_reservation.model.entity.BlockedSlotEntity;
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.model.entity.ScheduleEntity;
+import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.repository.BlockedSlotRepository;
+import com.reservation.medical_reservation.repository.DoctorAvailabilityRepository;
+import com.reservation.medical_reservation.repository.ScheduleRepository;
+import com.reservation.medical_reservation.service.OccupancyCacheService;
+import com.reservation.medical_reservation.util.DayOccupancy;
+import com.reservation.medical_reservation.util.TransactionCallbacks;
+import com.reservation.medical_reservation.util.VirtualSlots;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per doctor-day occupancy kept in an LRU on this node. Local writes patch or evict the affected
+ * days after commit, but nothing here hears about writes committed by another instance, so the
+ * cache assumes a single application node. Every entry also expires {@code ttl-seconds} after it
+ * was loaded, which bounds how long a day changed elsewhere can be served stale.
+ */
+@Service
+public class OccupancyCacheServiceImpl implements OccupancyCacheService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final BlockedSlotRepository blockedSlotRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorAvailabilityRepository availabilityRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<DayKey, CachedDay> days = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DayKey, CachedDay> eldest) {
+            return size() > maxDays;
+        }
+    };
+
+    @Value("${availability.cache.max-days:20000}")
+    private int maxDays;
+
+    @Value("${availability.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${schedule.virtual-slots.enabled:false}")
+    private boolean virtualSlotsEnabled;
+
+    public OccupancyCacheServiceImpl(ScheduleRepository scheduleRepository,
+                                     BlockedSlotRepository blockedSlotRepository,
+                                     AppointmentRepository appointmentRepository,
+                                     DoctorAvailabilityRepository availabilityRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.scheduleRepository = scheduleRepository;
+        this.blockedSlotRepository = blockedSlotRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.availabilityRepository = availabilityRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<DayOccupancy> getDays(DoctorEntity doctor, LocalDate startDate, LocalDate endDate) {
+        Long doctorId = doctor.getId();
+        Map<LocalDate, DayOccupancy> found = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+
+        long now = System.nanoTime();
+        synchronized (days) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                DayKey key = new DayKey(doctorId, date);
+                CachedDay cached = days.get(key);
+                if (cached != null && cached.isExpired(now)) {
+                    days.remove(key);
+                    cached = null;
+                }
+                if (cached != null) {
+                    found.put(date, cached.day());
+                } else {
+                    if (firstMissing == null) {
+                        firstMissing = date;
+                    }
+                    lastMissing = date;
+                }
+            }
+        }
+
+        if (firstMissing != null) {
+            long generation = generation(doctorId).get();
+            Map<LocalDate, DayOccupancy> loaded = load(doctor, firstMissing, lastMissing);
+            long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+            synchronized (days) {
+                boolean current = generation(doctorId).get() == generation;
+                for (DayOccupancy day : loaded.values()) {
+                    if (found.putIfAbsent(day.getDate(), day) == null && current) {
+                        days.put(new DayKey(doctorId, day.getDate()), new CachedDay(day, expiresAt));
+                    }
+                }
+            }
+        }
+
+        List<DayOccupancy> result = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            result.add(found.get(date));
+        }
+        return result;
+    }
+
+    @Override
+    public void markBusy(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+        TransactionCallbacks.afterCommit(() ->
+                update(doctorId, startTime, endTime, day -> day.withBusy(startTime, endTime)));
+    }
+
+    @Override
+    public void addSlot(Long doctorId, Long scheduleId, LocalDateTime startTime, LocalDateTime endTime) {
+        TransactionCallbacks.afterCommit(() ->
+                update(doctorId, startTime, startTime, day -> day.withSlot(scheduleId, startTime, endTime)));
+    }
+
+    @Override
+    public void evict(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+        TransactionCallbacks.afterCommit(() -> update(doctorId, startTime, endTime, day -> null));
+    }
+
+    @Override
+    public void evictDoctor(Long doctorId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (days) {
+                generation(doctorId).incrementAndGet();
+                days.keySet().removeIf(key -> key.doctorId().equals(doctorId));
+            }
+        });
+    }
+
+    @Override
+    public void evictAll() {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (days) {
+                generations.values().forEach(AtomicLong::incrementAndGet);
+                days.clear();
+            }
+        });
+    }
+
+    private void update(Long doctorId, LocalDateTime startTime, LocalDateTime endTime, UnaryOperator<DayOccupancy> change) {
+        synchronized (days) {
+            generation(doctorId).incrementAndGet();
+            for (LocalDate date = startTime.toLocalDate(); !date.isAfter(endTime.toLocalDate()); date = date.plusDays(1)) {
+                DayKey key = new DayKey(doctorId, date);
+                CachedDay cached = days.get(key);
+                if (cached == null) {
+                    continue;
+                }
+                DayOccupancy updated = change.apply(cached.day());
+                if (updated == null) {
+                    days.remove(key);
+                } else {
+                    days.put(key, new CachedDay(updated, cached.expiresAt()));
+                }
+            }
+        }
+    }
+
+    private Map<LocalDate, DayOccupancy> load(DoctorEntity doctor, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay();
+
+        return loadTransaction.execute(status -> {
+            Map<LocalDate, List<DayOccupancy.Slot>> slots = new HashMap<>();
+            for (ScheduleEntity schedule : bookableSlots(doctor, startDate, endDate)) {
+                slots.computeIfAbsent(schedule.getStartTime().toLocalDate(), date -> new ArrayList<>())
+                        .add(new DayOccupancy.Slot(schedule.getId(), schedule.getStartTime(), schedule.getEndTime()));
+            }
+
+            Map<LocalDate, DayOccupancy> loaded = new HashMap<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                loaded.put(date, DayOccupancy.of(date, slots.getOrDefault(date, List.of())));
+            }
+
+            for (BlockedSlotEntity blocked : blockedSlotRepository.findByDoctorAndDateRange(doctor, rangeStart, rangeEnd)) {
+                markLoaded(loaded, blocked.getStartTime(), blocked.getEndTime());
+            }
+            for (AppointmentEntity appointment : appointmentRepository.findConflictingAppointments(doctor, rangeStart, rangeEnd)) {
+                markLoaded(loaded, appointment.getAppointmentTime(), appointment.getEndTime());
+            }
+            return loaded;
+        });
+    }
+
+    private List<ScheduleEntity> bookableSlots(DoctorEntity doctor, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay();
+        if (!virtualSlotsEnabled) {
+            return scheduleRepository.findAvailableSlots(doctor, rangeStart, rangeEnd);
+        }
+
+        List<ScheduleEntity> stored = scheduleRepository.findByDoctorAndDateRange(doctor, rangeStart, rangeEnd);
+        List<ScheduleEntity> bookable = new ArrayList<>(stored.stream().filter(ScheduleEntity::isAvailable).toList());
+        bookable.addAll(VirtualSlots.withoutOverridden(
+                VirtualSlots.expand(doctor, availabilityRepository.findByDoctorOrderByDayOfWeek(doctor), startDate, endDate),
+                stored));
+        return bookable;
+    }
+
+    private void markLoaded(Map<LocalDate, DayOccupancy> loaded, LocalDateTime startTime, LocalDateTime endTime) {
+        for (LocalDate date = startTime.toLocalDate(); !date.isAfter(endTime.toLocalDate()); date = date.plusDays(1)) {
+            loaded.computeIfPresent(date, (key, day) -> day.withBusy(startTime, endTime));
+        }
+    }
+
+    private AtomicLong generation(Long doctorId) {
+        return generations.computeIfAbsent(doctorId, id -> new AtomicLong());
+    }
+
+    private record DayKey(Long doctorId, LocalDate date) {
+    }
+
+    private record CachedDay(DayOccupancy day, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
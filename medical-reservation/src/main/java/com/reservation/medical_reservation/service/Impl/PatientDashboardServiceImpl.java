@@ -0,0 +1,106 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.mapper.AppointmentMapper;
+import com.reservation.medical_reservation.model.dto.AppointmentDTO;
+import com.reservation.medical_reservation.model.dto.PatientDashboardDTO;
+import com.reservation.medical_reservation.model.dto.PatientDashboardStatsDTO;
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.projection.AppointmentRow;
+import com.reservation.medical_reservation.model.projection.AppointmentStatusCount;
+import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.PatientDashboardService;
+import com.reservation.medical_reservation.util.DayRange;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@Service
+public class PatientDashboardServiceImpl implements PatientDashboardService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final UserRepository userRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final TaskExecutor executor;
+
+    @Value("${dashboard.recent-limit:5}")
+    private int recentLimit;
+
+    public PatientDashboardServiceImpl(AppointmentRepository appointmentRepository,
+                                       UserRepository userRepository,
+                                       AppointmentMapper appointmentMapper,
+                                       @Qualifier("patientDashboardExecutor") TaskExecutor executor) {
+        this.appointmentRepository = appointmentRepository;
+        this.userRepository = userRepository;
+        this.appointmentMapper = appointmentMapper;
+        this.executor = executor;
+    }
+
+    @Override
+    public PatientDashboardDTO getDashboard(Long patientId) {
+        LocalDateTime now = LocalDateTime.now();
+        DayRange today = DayRange.of(LocalDate.now());
+
+        CompletableFuture<List<AppointmentStatusCount>> counts = async(() ->
+                appointmentRepository.countByStatusForPatient(patientId, now, today.start(), today.end()));
+        CompletableFuture<Long> unread = async(() ->
+                userRepository.findUnreadNotificationsById(patientId).orElse(0L));
+        CompletableFuture<List<AppointmentRow>> next = async(() ->
+                appointmentRepository.findUpcomingRowsByPatientAndStatus(patientId, now, AppointmentStatus.CONFIRMED, Limit.of(1)));
+        CompletableFuture<List<AppointmentRow>> recent = async(() ->
+                appointmentRepository.findRowsByPatientAndStatus(patientId, AppointmentStatus.COMPLETED, Limit.of(recentLimit)));
+        CompletableFuture<List<AppointmentRow>> todayRows = async(() ->
+                appointmentRepository.findRowsByPatientBetween(patientId, today.start(), today.end()));
+
+        try {
+            CompletableFuture.allOf(counts, unread, next, recent, todayRows).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        long completed = 0;
+        long pending = 0;
+        long upcoming = 0;
+        for (AppointmentStatusCount count : counts.join()) {
+            upcoming += count.upcoming();
+            if (count.status() == AppointmentStatus.COMPLETED) {
+                completed = count.total();
+            } else if (count.status() == AppointmentStatus.PENDING) {
+                pending = count.total();
+            }
+        }
+
+        AppointmentDTO nextAppointment = next.join().stream()
+                .findFirst()
+                .map(appointmentMapper::toDTO)
+                .orElse(null);
+
+        return new PatientDashboardDTO(
+                nextAppointment,
+                toDTOs(recent.join()),
+                toDTOs(todayRows.join()),
+                new PatientDashboardStatsDTO(completed, upcoming, pending, unread.join()));
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    private List<AppointmentDTO> toDTOs(List<AppointmentRow> rows) {
+        return rows.stream()
+                .map(appointmentMapper::toDTO)
+                .toList();
+    }
+}
@@ -5,22 +5,26 @@ import com.reservation.medical_reservation.model.dto.ScheduleDTO;
 import com.reservation.medical_reservation.model.entity.AppointmentEntity;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.RescheduleRequestEntity;
-import com.reservation.medical_reservation.model.entity.ScheduleEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
 import com.reservation.medical_reservation.model.enums.NotificationType;
 import com.reservation.medical_reservation.model.enums.RescheduleRequestStatus;
 import com.reservation.medical_reservation.repository.AppointmentRepository;
 import com.reservation.medical_reservation.repository.DoctorRepository;
 import com.reservation.medical_reservation.repository.RescheduleRequestRepository;
-import com.reservation.medical_reservation.repository.ScheduleRepository;
 import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.AppointmentIndexService;
+import com.reservation.medical_reservation.service.DoctorDashboardService;
 import com.reservation.medical_reservation.service.AppointmentService;
+import com.reservation.medical_reservation.service.AvailabilityEngine;
+import com.reservation.medical_reservation.service.BookingLockService;
 import com.reservation.medical_reservation.service.NotificationService;
 import com.reservation.medical_reservation.service.RescheduleRequestService;
 import com.reservation.medical_reservation.service.ScheduleService;
+import com.reservation.medical_reservation.service.StatisticsService;
 import com.reservation.medical_reservation.util.DateFormatterUtil;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -35,8 +39,12 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
     private final DoctorRepository doctorRepository;
-    private final ScheduleRepository scheduleRepository;
     private final AppointmentService appointmentService;
+    private final AppointmentIndexService appointmentIndexService;
+    private final DoctorDashboardService doctorDashboardService;
+    private final StatisticsService statisticsService;
+    private final AvailabilityEngine availabilityEngine;
+    private final BookingLockService bookingLockService;
     private final NotificationService notificationService;
     private final ScheduleService scheduleService;
     private final ModelMapper modelMapper;
@@ -45,8 +53,12 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
                                       AppointmentRepository appointmentRepository,
                                       UserRepository userRepository,
                                       DoctorRepository doctorRepository,
-                                      ScheduleRepository scheduleRepository,
                                       AppointmentService appointmentService,
+                                      AppointmentIndexService appointmentIndexService,
+                                      DoctorDashboardService doctorDashboardService,
+                                      StatisticsService statisticsService,
+                                      AvailabilityEngine availabilityEngine,
+                                      BookingLockService bookingLockService,
                                       NotificationService notificationService,
                                       ScheduleService scheduleService,
                                       ModelMapper modelMapper) {
@@ -54,8 +66,12 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
         this.appointmentRepository = appointmentRepository;
         this.userRepository = userRepository;
         this.doctorRepository = doctorRepository;
-        this.scheduleRepository = scheduleRepository;
         this.appointmentService = appointmentService;
+        this.appointmentIndexService = appointmentIndexService;
+        this.doctorDashboardService = doctorDashboardService;
+        this.statisticsService = statisticsService;
+        this.availabilityEngine = availabilityEngine;
+        this.bookingLockService = bookingLockService;
         this.notificationService = notificationService;
         this.scheduleService = scheduleService;
         this.modelMapper = modelMapper;
@@ -150,7 +166,12 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RescheduleRequestDTO respondToRescheduleRequest(Long requestId, RescheduleRequestStatus status, String doctorResponse) {
+        return bookingLockService.executeWithRetry(() -> applyRescheduleResponse(requestId, status, doctorResponse));
+    }
+
+    private RescheduleRequestDTO applyRescheduleResponse(Long requestId, RescheduleRequestStatus status, String doctorResponse) {
         RescheduleRequestEntity request = rescheduleRequestRepository.findById(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("Reschedule request not found"));
         
@@ -164,6 +185,8 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
         if (status == RescheduleRequestStatus.APPROVED) {
             AppointmentEntity appointment = request.getAppointment();
             
+            bookingLockService.lockDoctor(appointment.getDoctor().getId());
+            
             boolean isStillAvailable = appointmentService.isSlotAvailableForReschedule(
                     appointment.getDoctor().getId(),
                     request.getRequestedDateTime(),
@@ -184,7 +207,7 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
             System.out.println("Appointment ID: " + appointment.getId());
             System.out.println("Doctor ID: " + appointment.getDoctor().getId());
             
-            handleScheduleSlotRescheduling(
+            availabilityEngine.moveReservation(
                 appointment.getDoctor(),
                 originalTime,
                 originalEndTime,
@@ -194,7 +217,11 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
             
             appointment.setAppointmentTime(request.getRequestedDateTime());
             appointment.setEndTime(request.getRequestedEndTime());
-            appointmentRepository.save(appointment);
+            appointmentRepository.saveAndFlush(appointment);
+            appointmentIndexService.track(appointment);
+            doctorDashboardService.evictDoctor(appointment.getDoctor().getId());
+            statisticsService.recordAppointmentChanged(appointment.getStatus(), originalTime, appointment.getStatus(),
+                    appointment.getAppointmentTime(), appointment.getDoctor().getSpecialization());
             
             System.out.println("Appointment " + appointment.getId() + " successfully rescheduled from " + 
                              originalTime + " to " + request.getRequestedDateTime());
@@ -260,94 +287,4 @@ public class RescheduleRequestServiceImpl implements RescheduleRequestService {
                           entity.getAppointment().getService().getName() : "Consultation");
         return dto;
     }
-    
-    private void handleScheduleSlotRescheduling(DoctorEntity doctor, 
-                                               LocalDateTime originalStartTime, 
-                                               LocalDateTime originalEndTime,
-                                               LocalDateTime newStartTime, 
-                                               LocalDateTime newEndTime) {
-        
-        System.out.println("Handling schedule slot rescheduling for doctor " + doctor.getId());
-        System.out.println("Original slot: " + originalStartTime + " to " + originalEndTime);
-        System.out.println("New slot: " + newStartTime + " to " + newEndTime);
-        
-        freeOriginalScheduleSlot(doctor, originalStartTime, originalEndTime);
-        
-        reserveNewScheduleSlot(doctor, newStartTime, newEndTime);
-    }
-
-    private void freeOriginalScheduleSlot(DoctorEntity doctor, 
-                                         LocalDateTime startTime, 
-                                         LocalDateTime endTime) {
-    
-        List<ScheduleEntity> overlappingSlots = scheduleRepository.findByDoctorAndDateRange(
-            doctor, startTime, endTime);
-        
-        System.out.println("Looking for slots to free between " + startTime + " and " + endTime);
-        System.out.println("Found " + overlappingSlots.size() + " overlapping slots");
-        
-        for (ScheduleEntity slot : overlappingSlots) {
-            System.out.println("Checking slot: " + slot.getStartTime() + " to " + slot.getEndTime() + " (available: " + slot.isAvailable() + ")");
-            
-            if (slot.getStartTime().equals(startTime) && slot.getEndTime().equals(endTime)) {
-                slot.setAvailable(true);
-                scheduleRepository.save(slot);
-                System.out.println("Freed exact matching schedule slot: " + slot.getStartTime() + " to " + slot.getEndTime());
-                return; 
-            }
-            else if (isTimeOverlapping(slot.getStartTime(), slot.getEndTime(), startTime, endTime) && !slot.isAvailable()) {
-                slot.setAvailable(true);
-                scheduleRepository.save(slot);
-                System.out.println("Freed overlapping schedule slot: " + slot.getStartTime() + " to " + slot.getEndTime());
-            }
-        }
-    }
-    
-    private void reserveNewScheduleSlot(DoctorEntity doctor, 
-                                       LocalDateTime startTime, 
-                                       LocalDateTime endTime) {
-        
-        List<ScheduleEntity> overlappingSlots = scheduleRepository.findByDoctorAndDateRange(
-            doctor, startTime, endTime);
-        
-        System.out.println("Looking for slots to reserve between " + startTime + " and " + endTime);
-        System.out.println("Found " + overlappingSlots.size() + " overlapping slots");
-        
-        boolean slotFound = false;
-        for (ScheduleEntity slot : overlappingSlots) {
-            System.out.println("Checking slot: " + slot.getStartTime() + " to " + slot.getEndTime() + " (available: " + slot.isAvailable() + ")");
-            
-            if (slot.getStartTime().equals(startTime) && slot.getEndTime().equals(endTime)) {
-                slot.setAvailable(false);
-                scheduleRepository.save(slot);
-
-                System.out.println("Reserved exact matching schedule slot: " + slot.getStartTime() + " to " + slot.getEndTime());
-                slotFound = true;
-                break; 
-            }
-
-            else if (isTimeOverlapping(slot.getStartTime(), slot.getEndTime(), startTime, endTime) && slot.isAvailable()) {
-                slot.setAvailable(false);
-                scheduleRepository.save(slot);
-                System.out.println("Reserved overlapping schedule slot: " + slot.getStartTime() + " to " + slot.getEndTime());
-                slotFound = true;
-                break;
-            }
-        }
-        
-        if (!slotFound) {
-            ScheduleEntity newSlot = new ScheduleEntity();
-            newSlot.setDoctor(doctor);
-            newSlot.setStartTime(startTime);
-            newSlot.setEndTime(endTime);
-            newSlot.setAvailable(false); 
-            scheduleRepository.save(newSlot);
-            System.out.println("Created new reserved schedule slot: " + startTime + " to " + endTime);
-        }
-    }
-    
-    private boolean isTimeOverlapping(LocalDateTime start1, LocalDateTime end1, 
-                                     LocalDateTime start2, LocalDateTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
-    }
 }
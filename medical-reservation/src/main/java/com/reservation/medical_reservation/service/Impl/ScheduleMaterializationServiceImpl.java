@@ -0,0 +1,166 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.model.dto.MaterializationRunDTO;
+import com.reservation.medical_reservation.model.dto.SlotGenerationResultDTO;
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.repository.DoctorRepository;
+import com.reservation.medical_reservation.service.AvailabilityEngine;
+import com.reservation.medical_reservation.service.ScheduleMaterializationService;
+import com.reservation.medical_reservation.service.ScheduleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class ScheduleMaterializationServiceImpl implements ScheduleMaterializationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleMaterializationServiceImpl.class);
+
+    private final DoctorRepository doctorRepository;
+    private final ScheduleService scheduleService;
+    private final AvailabilityEngine availabilityEngine;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final TaskExecutor runner;
+    private final ThreadPoolTaskExecutor executor;
+    private volatile MaterializationRunDTO lastRun;
+
+    @Value("${schedule.materialization.enabled:true}")
+    private boolean enabled;
+
+    @Value("${schedule.materialization.horizon-weeks:8}")
+    private int horizonWeeks;
+
+    public ScheduleMaterializationServiceImpl(DoctorRepository doctorRepository,
+                                              ScheduleService scheduleService,
+                                              AvailabilityEngine availabilityEngine,
+                                              @Qualifier("backgroundJobExecutor") TaskExecutor runner,
+                                              @Qualifier("scheduleMaterializationExecutor") ThreadPoolTaskExecutor executor) {
+        this.doctorRepository = doctorRepository;
+        this.scheduleService = scheduleService;
+        this.availabilityEngine = availabilityEngine;
+        this.runner = runner;
+        this.executor = executor;
+    }
+
+    @Scheduled(cron = "${schedule.materialization.cron:0 0 2 * * *}")
+    public void scheduledRun() {
+        if (!enabled || availabilityEngine.usesVirtualSlots()) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Skipping scheduled schedule materialization, a run is already in progress");
+            return;
+        }
+
+        try {
+            run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public MaterializationRunDTO materializeAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Schedule materialization is already running");
+        }
+
+        try {
+            return run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public boolean startMaterialization() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            runner.execute(() -> {
+                try {
+                    run();
+                } catch (RuntimeException e) {
+                    log.error("Schedule materialization failed", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private MaterializationRunDTO run() {
+        long started = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDate startDate = LocalDate.now();
+        LocalDate horizonEnd = startDate.plusWeeks(horizonWeeks);
+
+        List<Long> doctorIds = doctorRepository.findByIsActiveTrue()
+                .stream()
+                .map(DoctorEntity::getId)
+                .toList();
+
+        int processed = 0;
+        int failed = 0;
+        int generated = 0;
+        int skipped = 0;
+
+        List<Future<SlotGenerationResultDTO>> results = new ArrayList<>(doctorIds.size());
+        try {
+            for (Long doctorId : doctorIds) {
+                results.add(executor.submit(() ->
+                        scheduleService.generateScheduleFromAvailability(doctorId, startDate, horizonEnd)));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    SlotGenerationResultDTO result = results.get(i).get();
+                    processed++;
+                    generated += result.getGeneratedCount();
+                    skipped += result.getSkippedCount();
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.warn("Schedule materialization failed for doctor {}: {}", doctorIds.get(i),
+                            e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+
+        MaterializationRunDTO run = new MaterializationRunDTO(startedAt, LocalDateTime.now(), horizonEnd,
+                processed, failed, generated, skipped, System.currentTimeMillis() - started);
+        lastRun = run;
+
+        log.info("Schedule materialization finished: {} doctors, {} failed, {} slots generated, {} skipped in {} ms",
+                processed, failed, generated, skipped, run.getDurationMs());
+        return run;
+    }
+
+    @Override
+    public MaterializationRunDTO getLastRun() {
+        return lastRun;
+    }
+}
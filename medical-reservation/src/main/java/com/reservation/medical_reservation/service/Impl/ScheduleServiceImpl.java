@@ -1,50 +1,84 @@
 package com.reservation.medical_reservation.service.Impl;
 
 import com.reservation.medical_reservation.model.dto.ScheduleDTO;
+import com.reservation.medical_reservation.model.dto.SlotGenerationResultDTO;
 import com.reservation.medical_reservation.model.entity.DoctorEntity;
 import com.reservation.medical_reservation.model.entity.ScheduleEntity;
-import com.reservation.medical_reservation.model.entity.BlockedSlotEntity;
 import com.reservation.medical_reservation.model.entity.AppointmentEntity;
+import com.reservation.medical_reservation.model.entity.NotificationEntity;
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.enums.NotificationType;
 import com.reservation.medical_reservation.repository.DoctorRepository;
 import com.reservation.medical_reservation.repository.ScheduleRepository;
-import com.reservation.medical_reservation.repository.BlockedSlotRepository;
 import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.repository.DoctorAvailabilityRepository;
 import com.reservation.medical_reservation.service.ScheduleService;
-import com.reservation.medical_reservation.service.DoctorAvailabilityService;
-import com.reservation.medical_reservation.service.AppointmentService;
+import com.reservation.medical_reservation.service.AppointmentIndexService;
+import com.reservation.medical_reservation.service.DoctorDashboardService;
+import com.reservation.medical_reservation.service.NotificationService;
+import com.reservation.medical_reservation.service.BookingLockService;
+import com.reservation.medical_reservation.service.AvailabilityEngine;
+import com.reservation.medical_reservation.service.OccupancyCacheService;
+import com.reservation.medical_reservation.service.StatisticsService;
+import com.reservation.medical_reservation.util.AvailabilityTimeline;
+import com.reservation.medical_reservation.util.DateFormatterUtil;
+import com.reservation.medical_reservation.util.DayOccupancy;
+import com.reservation.medical_reservation.util.VirtualSlots;
 import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.ArrayList;
 
 @Service
 public class ScheduleServiceImpl implements ScheduleService {
 
+    private static final Logger log = LoggerFactory.getLogger(ScheduleServiceImpl.class);
+    private static final long MAX_CALENDAR_DAYS = 366;
+    private static final String SLOT_CANCELLED_REASON = "Schedule slot cancelled by doctor. Please contact the doctor to reschedule.";
+
     private final ScheduleRepository scheduleRepository;
     private final DoctorRepository doctorRepository;
-    private final BlockedSlotRepository blockedSlotRepository;
     private final AppointmentRepository appointmentRepository;
-    private final DoctorAvailabilityService availabilityService;
-    private final AppointmentService appointmentService;
+    private final DoctorAvailabilityRepository availabilityRepository;
+    private final AppointmentIndexService appointmentIndexService;
+    private final DoctorDashboardService doctorDashboardService;
+    private final NotificationService notificationService;
+    private final BookingLockService bookingLockService;
+    private final AvailabilityEngine availabilityEngine;
+    private final OccupancyCacheService occupancyCacheService;
+    private final StatisticsService statisticsService;
     private final ModelMapper modelMapper;
 
     public ScheduleServiceImpl(ScheduleRepository scheduleRepository, 
                              DoctorRepository doctorRepository,
-                             BlockedSlotRepository blockedSlotRepository,
                              AppointmentRepository appointmentRepository,
-                             DoctorAvailabilityService availabilityService,
-                             AppointmentService appointmentService,
+                             DoctorAvailabilityRepository availabilityRepository,
+                             AppointmentIndexService appointmentIndexService,
+                             DoctorDashboardService doctorDashboardService,
+                             NotificationService notificationService,
+                             BookingLockService bookingLockService,
+                             AvailabilityEngine availabilityEngine,
+                             OccupancyCacheService occupancyCacheService,
+                             StatisticsService statisticsService,
                              ModelMapper modelMapper) {
         this.scheduleRepository = scheduleRepository;
         this.doctorRepository = doctorRepository;
-        this.blockedSlotRepository = blockedSlotRepository;
         this.appointmentRepository = appointmentRepository;
-        this.availabilityService = availabilityService;
-        this.appointmentService = appointmentService;
+        this.availabilityRepository = availabilityRepository;
+        this.appointmentIndexService = appointmentIndexService;
+        this.doctorDashboardService = doctorDashboardService;
+        this.notificationService = notificationService;
+        this.bookingLockService = bookingLockService;
+        this.availabilityEngine = availabilityEngine;
+        this.occupancyCacheService = occupancyCacheService;
+        this.statisticsService = statisticsService;
         this.modelMapper = modelMapper;
     }
 
@@ -58,6 +92,8 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new IllegalArgumentException("Your account is not yet approved by an administrator. You cannot manage schedule slots until your account is activated.");
         }
 
+        bookingLockService.lockDoctor(doctor.getId());
+
         LocalDateTime now = LocalDateTime.now();
         if (scheduleDTO.getStartTime().isBefore(now)) {
             throw new IllegalArgumentException("Cannot create schedule slots for past dates or times. Please select a future date and time.");
@@ -75,6 +111,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         schedule.setAvailable(true);
 
         ScheduleEntity saved = scheduleRepository.save(schedule);
+        occupancyCacheService.addSlot(doctor.getId(), saved.getId(), saved.getStartTime(), saved.getEndTime());
         return modelMapper.map(saved, ScheduleDTO.class);
     }
 
@@ -100,15 +137,56 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
 
         LocalDateTime now = LocalDateTime.now();
-        return scheduleRepository.findAvailableSlots(doctor, startDate, endDate)
-                .stream()
-                .filter(schedule -> schedule.getStartTime().isAfter(now))
-                .map(schedule -> {
-                    ScheduleDTO dto = modelMapper.map(schedule, ScheduleDTO.class);
+        if (ChronoUnit.DAYS.between(startDate.toLocalDate(), endDate.toLocalDate()) >= MAX_CALENDAR_DAYS) {
+            return scheduleRepository.findAvailableSlots(doctor, startDate, endDate)
+                    .stream()
+                    .filter(schedule -> schedule.getStartTime().isAfter(now))
+                    .map(schedule -> {
+                        ScheduleDTO dto = modelMapper.map(schedule, ScheduleDTO.class);
+                        dto.setDoctorId(doctor.getId());
+                        dto.setDoctorName(doctor.getUser().getFullName());
+                        return dto;
+                    })
+                    .toList();
+        }
+
+        String doctorName = doctor.getUser().getFullName();
+        List<ScheduleDTO> result = new ArrayList<>();
+        for (DayOccupancy day : occupancyCacheService.getDays(doctor, startDate.toLocalDate(), endDate.toLocalDate())) {
+            for (DayOccupancy.Slot slot : day.getSlots()) {
+                if (!slot.startTime().isBefore(startDate) && !slot.startTime().isAfter(endDate)
+                        && slot.startTime().isAfter(now)) {
+                    ScheduleDTO dto = new ScheduleDTO();
+                    dto.setId(slot.id());
                     dto.setDoctorId(doctor.getId());
-                    dto.setDoctorName(doctor.getUser().getFullName());
-                    return dto;
-                })
+                    dto.setDoctorName(doctorName);
+                    dto.setStartTime(slot.startTime());
+                    dto.setEndTime(slot.endTime());
+                    dto.setAvailable(true);
+                    result.add(dto);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<LocalDate> getAvailableDays(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        DoctorEntity doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
+
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_CALENDAR_DAYS + " days.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return occupancyCacheService.getDays(doctor, startDate, endDate)
+                .stream()
+                .filter(day -> day.hasFreeSlotAfter(now))
+                .map(DayOccupancy::getDate)
                 .toList();
     }
 
@@ -117,6 +195,7 @@ public class ScheduleServiceImpl implements ScheduleService {
     public ScheduleDTO updateSchedule(Long scheduleId, ScheduleDTO scheduleDTO) {
         ScheduleEntity schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
+        bookingLockService.lockDoctor(schedule.getDoctor().getId());
 
         LocalDateTime now = LocalDateTime.now();
         if (scheduleDTO.getStartTime().isBefore(now)) {
@@ -128,11 +207,14 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new IllegalArgumentException("End time must be after start time.");
         }
 
+        occupancyCacheService.evict(schedule.getDoctor().getId(), schedule.getStartTime(), schedule.getEndTime());
+
         schedule.setStartTime(scheduleDTO.getStartTime());
         schedule.setEndTime(scheduleDTO.getEndTime());
         schedule.setAvailable(scheduleDTO.isAvailable());
 
         ScheduleEntity updated = scheduleRepository.save(schedule);
+        occupancyCacheService.evict(schedule.getDoctor().getId(), updated.getStartTime(), updated.getEndTime());
         return modelMapper.map(updated, ScheduleDTO.class);
     }
 
@@ -141,19 +223,9 @@ public class ScheduleServiceImpl implements ScheduleService {
     public void deleteSchedule(Long scheduleId) {
         ScheduleEntity schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
-    
-        List<AppointmentEntity> conflictingAppointments = appointmentRepository.findConflictingAppointments(
-            schedule.getDoctor(), 
-            schedule.getStartTime(), 
-            schedule.getEndTime()
-        );
-        
-        for (AppointmentEntity appointment : conflictingAppointments) {
-            appointmentService.cancelAppointment(appointment.getId(), 
-                "Schedule slot cancelled by doctor. Please contact the doctor to reschedule.");
-        }
-        
-        scheduleRepository.deleteById(scheduleId);
+        bookingLockService.lockDoctor(schedule.getDoctor().getId());
+
+        removeSchedules(List.of(schedule));
     }
 
     @Override
@@ -161,8 +233,10 @@ public class ScheduleServiceImpl implements ScheduleService {
     public void markSlotUnavailable(Long scheduleId) {
         ScheduleEntity schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
+        bookingLockService.lockDoctor(schedule.getDoctor().getId());
         schedule.setAvailable(false);
         scheduleRepository.save(schedule);
+        occupancyCacheService.evict(schedule.getDoctor().getId(), schedule.getStartTime(), schedule.getEndTime());
     }
 
     @Override
@@ -170,8 +244,10 @@ public class ScheduleServiceImpl implements ScheduleService {
     public void markSlotAvailable(Long scheduleId) {
         ScheduleEntity schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
+        bookingLockService.lockDoctor(schedule.getDoctor().getId());
         schedule.setAvailable(true);
         scheduleRepository.save(schedule);
+        occupancyCacheService.evict(schedule.getDoctor().getId(), schedule.getStartTime(), schedule.getEndTime());
     }
 
     @Override
@@ -181,58 +257,14 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         LocalDateTime now = LocalDateTime.now();
 
-        List<ScheduleEntity> schedules = scheduleRepository.findFutureSlotsByDoctorAndDateRange(doctor, startDate, endDate, now);
-        List<BlockedSlotEntity> blockedSlots = blockedSlotRepository.findByDoctorAndDateRange(doctor, startDate, endDate);
-        List<AppointmentEntity> appointments = appointmentRepository.findByDoctorAndDateRange(doctor, startDate, endDate);
-
-        List<ScheduleDTO> result = new ArrayList<>();
-
-        for (ScheduleEntity schedule : schedules) {
-
-            ScheduleDTO dto = modelMapper.map(schedule, ScheduleDTO.class);
-            dto.setDoctorId(doctor.getId());
-            dto.setDoctorName(doctor.getUser().getFullName());
-
-            boolean isBlocked = blockedSlots.stream().anyMatch(blocked -> 
-                                isTimeOverlapping(schedule.getStartTime(), schedule.getEndTime(), 
-                                blocked.getStartTime(), blocked.getEndTime()));
-
-            if (isBlocked) {
-                BlockedSlotEntity blockingSlot = blockedSlots.stream()
-                    .filter(blocked -> isTimeOverlapping(schedule.getStartTime(), schedule.getEndTime(), 
-                                                       blocked.getStartTime(), blocked.getEndTime()))
-                    .findFirst().orElse(null);
-                dto.setStatus("BLOCKED");
-                dto.setBlockedReason(blockingSlot != null ? blockingSlot.getReason() : "Unavailable");
-                dto.setAvailable(false);
-            } else {
-                AppointmentEntity appointment = appointments.stream()
-                    .filter(apt -> isTimeOverlapping(schedule.getStartTime(), schedule.getEndTime(), 
-                                                   apt.getAppointmentTime(), apt.getEndTime()))
-                    .findFirst().orElse(null);
-
-                if (appointment != null) {
-                    dto.setStatus("BOOKED");
-                    dto.setAppointmentId(appointment.getId());
-                    dto.setPatientId(appointment.getPatient().getId());
-                    dto.setPatientName(appointment.getPatient().getFullName());
-                    dto.setAvailable(false);
-                } else {
-    
-                    if (!schedule.isAvailable()) {
-                        dto.setStatus("UNAVAILABLE");
-                        dto.setAvailable(false);
-                    } else {
-                        dto.setStatus("FREE");
-                        dto.setAvailable(true);
-                    }
-                }
-            }
-
-            result.add(dto);
-        }
+        AvailabilityTimeline timeline = availabilityEngine.loadTimeline(doctor, startDate, endDate);
+        List<ScheduleEntity> schedules = timeline.getSchedules().stream()
+                .filter(schedule -> !schedule.getStartTime().isBefore(startDate)
+                        && !schedule.getEndTime().isAfter(endDate)
+                        && schedule.getStartTime().isAfter(now))
+                .toList();
 
-        return result;
+        return buildScheduleWithStatus(doctor, timeline, schedules, false);
     }
 
     @Override
@@ -240,54 +272,42 @@ public class ScheduleServiceImpl implements ScheduleService {
         DoctorEntity doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
 
-        List<ScheduleEntity> schedules = scheduleRepository.findByDoctorAndDateRange(doctor, startDate, endDate);
-        List<BlockedSlotEntity> blockedSlots = blockedSlotRepository.findByDoctorAndDateRange(doctor, startDate, endDate);
-        List<AppointmentEntity> appointments = appointmentRepository.findByDoctorAndDateRange(doctor, startDate, endDate);
+        AvailabilityTimeline timeline = availabilityEngine.loadTimeline(doctor, startDate, endDate);
+        return buildScheduleWithStatus(doctor, timeline, timeline.getSchedules(), true);
+    }
 
-        List<ScheduleDTO> result = new ArrayList<>();
+    private List<ScheduleDTO> buildScheduleWithStatus(DoctorEntity doctor, AvailabilityTimeline timeline,
+                                                      List<ScheduleEntity> schedules, boolean markPast) {
+        LocalDateTime now = LocalDateTime.now();
+        String doctorName = doctor.getUser().getFullName();
+        List<ScheduleDTO> result = new ArrayList<>(schedules.size());
 
-        for (ScheduleEntity schedule : schedules) {
+        for (AvailabilityTimeline.ResolvedSlot slot : timeline.resolve(schedules)) {
+            ScheduleEntity schedule = slot.schedule();
             ScheduleDTO dto = modelMapper.map(schedule, ScheduleDTO.class);
             dto.setDoctorId(doctor.getId());
-            dto.setDoctorName(doctor.getUser().getFullName());
+            dto.setDoctorName(doctorName);
 
-            boolean isBlocked = blockedSlots.stream().anyMatch(blocked -> 
-                                isTimeOverlapping(schedule.getStartTime(), schedule.getEndTime(), 
-                                blocked.getStartTime(), blocked.getEndTime()));
-
-            if (isBlocked) {
-                BlockedSlotEntity blockingSlot = blockedSlots.stream()
-                    .filter(blocked -> isTimeOverlapping(schedule.getStartTime(), schedule.getEndTime(), 
-                                                       blocked.getStartTime(), blocked.getEndTime()))
-                    .findFirst().orElse(null);
+            if (slot.blockingSlot() != null) {
                 dto.setStatus("BLOCKED");
-                dto.setBlockedReason(blockingSlot != null ? blockingSlot.getReason() : "Unavailable");
+                dto.setBlockedReason(slot.blockingSlot().getReason());
+                dto.setAvailable(false);
+            } else if (slot.appointment() != null) {
+                AppointmentEntity appointment = slot.appointment();
+                dto.setStatus("BOOKED");
+                dto.setAppointmentId(appointment.getId());
+                dto.setPatientId(appointment.getPatient().getId());
+                dto.setPatientName(appointment.getPatient().getFullName());
+                dto.setAvailable(false);
+            } else if (markPast && schedule.getStartTime().isBefore(now)) {
+                dto.setStatus("PAST");
+                dto.setAvailable(false);
+            } else if (!schedule.isAvailable()) {
+                dto.setStatus("UNAVAILABLE");
                 dto.setAvailable(false);
             } else {
-                AppointmentEntity appointment = appointments.stream()
-                    .filter(apt -> isTimeOverlapping(schedule.getStartTime(), schedule.getEndTime(), 
-                                                   apt.getAppointmentTime(), apt.getEndTime()))
-                    .findFirst().orElse(null);
-
-                if (appointment != null) {
-                    dto.setStatus("BOOKED");
-                    dto.setAppointmentId(appointment.getId());
-                    dto.setPatientId(appointment.getPatient().getId());
-                    dto.setPatientName(appointment.getPatient().getFullName());
-                    dto.setAvailable(false);
-                } else {
-                    LocalDateTime now = LocalDateTime.now();
-                    if (schedule.getStartTime().isBefore(now)) {
-                        dto.setStatus("PAST");
-                        dto.setAvailable(false);
-                    } else if (!schedule.isAvailable()) {
-                        dto.setStatus("UNAVAILABLE");
-                        dto.setAvailable(false);
-                    } else {
-                        dto.setStatus("FREE");
-                        dto.setAvailable(true);
-                    }
-                }
+                dto.setStatus("FREE");
+                dto.setAvailable(true);
             }
 
             result.add(dto);
@@ -304,25 +324,68 @@ public class ScheduleServiceImpl implements ScheduleService {
 
     @Override
     @Transactional
-    public void generateScheduleFromAvailability(Long doctorId, LocalDate startDate, LocalDate endDate) {
+    public SlotGenerationResultDTO generateScheduleFromAvailability(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        long started = System.currentTimeMillis();
+
         DoctorEntity doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
         
         if (!Boolean.TRUE.equals(doctor.getIsActive())) {
             throw new IllegalArgumentException("Your account is not yet approved by an administrator. You cannot generate schedule slots until your account is activated.");
         }
-        
-        List<ScheduleDTO> generatedSlots = availabilityService.generateSlotsFromAvailability(doctorId, startDate, endDate);
-        
-        for (ScheduleDTO slot : generatedSlots) {
-            ScheduleEntity schedule = new ScheduleEntity();
-            schedule.setDoctor(doctor);
-            schedule.setStartTime(slot.getStartTime());
-            schedule.setEndTime(slot.getEndTime());
-            schedule.setAvailable(true);
-            
-            scheduleRepository.save(schedule);
+
+        if (availabilityEngine.usesVirtualSlots()) {
+            return new SlotGenerationResultDTO(0, 0, System.currentTimeMillis() - started);
         }
+
+        bookingLockService.lockDoctor(doctor.getId());
+
+        List<ScheduleEntity> candidates = candidateSlots(doctor, startDate, endDate);
+        List<ScheduleEntity> missing = missingSlots(doctor, candidates, startDate, endDate);
+        scheduleRepository.saveAll(missing);
+
+        occupancyCacheService.evict(doctorId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+
+        long durationMs = System.currentTimeMillis() - started;
+        log.info("Generated {} schedule slots for doctor {} ({} already existed) in {} ms",
+                missing.size(), doctorId, candidates.size() - missing.size(), durationMs);
+        return new SlotGenerationResultDTO(missing.size(), candidates.size() - missing.size(), durationMs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleDTO> previewScheduleFromAvailability(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        DoctorEntity doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("Doctor not found"));
+
+        String doctorName = doctor.getUser().getFullName();
+        return missingSlots(doctor, candidateSlots(doctor, startDate, endDate), startDate, endDate)
+                .stream()
+                .map(slot -> {
+                    ScheduleDTO dto = new ScheduleDTO();
+                    dto.setDoctorId(doctor.getId());
+                    dto.setDoctorName(doctorName);
+                    dto.setStartTime(slot.getStartTime());
+                    dto.setEndTime(slot.getEndTime());
+                    dto.setAvailable(true);
+                    return dto;
+                })
+                .toList();
+    }
+
+    private List<ScheduleEntity> candidateSlots(DoctorEntity doctor, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime now = LocalDateTime.now();
+        return VirtualSlots.expand(doctor, availabilityRepository.findByDoctorOrderByDayOfWeek(doctor), startDate, endDate)
+                .stream()
+                .filter(slot -> slot.getStartTime().isAfter(now))
+                .toList();
+    }
+
+    private List<ScheduleEntity> missingSlots(DoctorEntity doctor, List<ScheduleEntity> candidates,
+                                              LocalDate startDate, LocalDate endDate) {
+        List<ScheduleEntity> existing = scheduleRepository.findByDoctorAndDateRange(
+                doctor, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+        return VirtualSlots.withoutExisting(candidates, existing);
     }
 
     @Override
@@ -333,24 +396,53 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
         
         List<ScheduleEntity> schedulesToDelete = scheduleRepository.findAllById(scheduleIds);
-        for (ScheduleEntity schedule : schedulesToDelete) {
-        
-            List<AppointmentEntity> conflictingAppointments = appointmentRepository.findConflictingAppointments(
-                schedule.getDoctor(), 
-                schedule.getStartTime(), 
-                schedule.getEndTime()
-            );
-            
-            for (AppointmentEntity appointment : conflictingAppointments) {
-                appointmentService.cancelAppointment(appointment.getId(), 
-                    "Schedule slot cancelled by doctor. Please contact the doctor to reschedule.");
+        bookingLockService.lockDoctors(schedulesToDelete.stream()
+                .map(schedule -> schedule.getDoctor().getId())
+                .toList());
+
+        removeSchedules(schedulesToDelete);
+    }
+
+    private void removeSchedules(List<ScheduleEntity> schedules) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+
+        List<Long> scheduleIds = schedules.stream().map(ScheduleEntity::getId).toList();
+        List<AppointmentEntity> affected = appointmentRepository.findConflictingWithSchedules(scheduleIds);
+
+        if (!affected.isEmpty()) {
+            appointmentRepository.updateStatusForIds(
+                    affected.stream().map(AppointmentEntity::getId).toList(),
+                    AppointmentStatus.CANCELLED,
+                    SLOT_CANCELLED_REASON,
+                    LocalDateTime.now());
+
+            List<NotificationEntity> notifications = new ArrayList<>(affected.size());
+            for (AppointmentEntity appointment : affected) {
+                statisticsService.recordAppointmentChanged(appointment.getStatus(), appointment.getAppointmentTime(),
+                        AppointmentStatus.CANCELLED, appointment.getAppointmentTime(), appointment.getDoctor().getSpecialization());
+                appointment.setStatus(AppointmentStatus.CANCELLED);
+                appointment.setCancellationReason(SLOT_CANCELLED_REASON);
+                appointmentIndexService.track(appointment);
+                doctorDashboardService.evictDoctor(appointment.getDoctor().getId());
+                occupancyCacheService.evict(appointment.getDoctor().getId(), appointment.getAppointmentTime(), appointment.getEndTime());
+
+                NotificationEntity notification = new NotificationEntity();
+                notification.setUser(appointment.getPatient());
+                notification.setTitle("Appointment Cancelled");
+                notification.setMessage("Your appointment scheduled for " +
+                        DateFormatterUtil.formatForNotification(appointment.getAppointmentTime()) +
+                        " has been cancelled. Reason: " + SLOT_CANCELLED_REASON);
+                notification.setType(NotificationType.APPOINTMENT_CANCELLATION);
+                notifications.add(notification);
             }
+            notificationService.createNotifications(notifications);
         }
-        
-        scheduleRepository.deleteAllById(scheduleIds);
-    }
 
-    private boolean isTimeOverlapping(LocalDateTime start1, LocalDateTime end1, LocalDateTime start2, LocalDateTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
+        scheduleRepository.deleteByIds(scheduleIds);
+        for (ScheduleEntity schedule : schedules) {
+            occupancyCacheService.evict(schedule.getDoctor().getId(), schedule.getStartTime(), schedule.getEndTime());
+        }
     }
-}
\ No newline at end of file
+}
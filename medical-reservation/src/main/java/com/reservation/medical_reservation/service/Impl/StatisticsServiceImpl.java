@@ -0,0 +1,260 @@
+package com.reservation.medical_reservation.service.Impl;
+
+import com.reservation.medical_reservation.model.dto.DailyStatisticsDTO;
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.enums.RoleName;
+import com.reservation.medical_reservation.model.enums.StatisticsCounter;
+import com.reservation.medical_reservation.model.projection.DailyCount;
+import com.reservation.medical_reservation.model.projection.DailyTotal;
+import com.reservation.medical_reservation.repository.AppointmentRepository;
+import com.reservation.medical_reservation.repository.DoctorRatingRepository;
+import com.reservation.medical_reservation.repository.DoctorRepository;
+import com.reservation.medical_reservation.repository.UserRepository;
+import com.reservation.medical_reservation.service.StatisticsService;
+import com.reservation.medical_reservation.util.StatisticsRollup;
+import com.reservation.medical_reservation.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatisticsServiceImpl.class);
+    private static final int MAX_DAILY_RANGE = 366;
+
+    private final UserRepository userRepository;
+    private final DoctorRepository doctorRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorRatingRepository doctorRatingRepository;
+    private final TransactionTemplate reconcileTransaction;
+    private volatile StatisticsRollup rollup;
+
+    @Value("${statistics.retention-days:365}")
+    private int retentionDays;
+
+    public StatisticsServiceImpl(UserRepository userRepository,
+                                 DoctorRepository doctorRepository,
+                                 AppointmentRepository appointmentRepository,
+                                 DoctorRatingRepository doctorRatingRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.doctorRepository = doctorRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.doctorRatingRepository = doctorRatingRepository;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconcileTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Initial statistics load failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.reconcile.interval-ms:900000}",
+            initialDelayString = "${statistics.reconcile.interval-ms:900000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Statistics reconciliation failed", e);
+        }
+    }
+
+    @Override
+    public long getTotal(StatisticsCounter counter) {
+        return current().getTotal(counter);
+    }
+
+    @Override
+    public List<DailyStatisticsDTO> getDailyStatistics(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (from.plusDays(MAX_DAILY_RANGE).isBefore(to)) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_DAILY_RANGE + " days");
+        }
+
+        StatisticsRollup current = current();
+        List<DailyStatisticsDTO> result = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            StatisticsRollup.Day day = current.getDay(date);
+            if (day == null) {
+                result.add(new DailyStatisticsDTO(date, Map.of(), Map.of(), 0, 0));
+            } else {
+                result.add(new DailyStatisticsDTO(date, day.getAppointmentsByStatus(),
+                        day.getAppointmentsBySpecialization(), day.getNewUsers(), day.getNewRatings()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void recordUserCreated(RoleName role, LocalDateTime createdAt) {
+        apply(current -> {
+            current.addTotal(StatisticsCounter.USERS, 1);
+            if (role == RoleName.USER) {
+                current.addTotal(StatisticsCounter.PATIENTS, 1);
+            }
+            current.addNewUsers(createdAt.toLocalDate(), 1);
+        });
+    }
+
+    @Override
+    public void recordUserRoleChanged(RoleName oldRole, RoleName newRole) {
+        if (oldRole == newRole) {
+            return;
+        }
+        apply(current -> {
+            if (oldRole == RoleName.USER) {
+                current.addTotal(StatisticsCounter.PATIENTS, -1);
+            } else if (newRole == RoleName.USER) {
+                current.addTotal(StatisticsCounter.PATIENTS, 1);
+            }
+        });
+    }
+
+    @Override
+    public void recordDoctorActivationChanged(boolean wasActive, boolean active) {
+        if (wasActive == active) {
+            return;
+        }
+        apply(current -> current.addTotal(StatisticsCounter.DOCTORS, active ? 1 : -1));
+    }
+
+    @Override
+    public void recordAppointmentCreated(AppointmentStatus status, LocalDateTime appointmentTime, String specialization) {
+        apply(current -> {
+            LocalDate date = appointmentTime.toLocalDate();
+            current.addTotal(StatisticsCounter.APPOINTMENTS, 1);
+            current.addAppointmentStatus(date, status, 1);
+            current.addAppointmentSpecialization(date, specialization, 1);
+        });
+    }
+
+    @Override
+    public void recordAppointmentChanged(AppointmentStatus oldStatus, LocalDateTime oldTime,
+                                         AppointmentStatus newStatus, LocalDateTime newTime, String specialization) {
+        LocalDate oldDate = oldTime.toLocalDate();
+        LocalDate newDate = newTime.toLocalDate();
+        if (oldStatus == newStatus && oldDate.equals(newDate)) {
+            return;
+        }
+        apply(current -> {
+            current.addAppointmentStatus(oldDate, oldStatus, -1);
+            current.addAppointmentStatus(newDate, newStatus, 1);
+            if (!oldDate.equals(newDate)) {
+                current.addAppointmentSpecialization(oldDate, specialization, -1);
+                current.addAppointmentSpecialization(newDate, specialization, 1);
+            }
+        });
+    }
+
+    @Override
+    public void recordRatingCreated(LocalDateTime createdAt) {
+        apply(current -> {
+            current.addTotal(StatisticsCounter.RATINGS, 1);
+            current.addNewRatings(createdAt.toLocalDate(), 1);
+        });
+    }
+
+    @Override
+    public void recordRatingDeleted(LocalDateTime createdAt) {
+        apply(current -> {
+            current.addTotal(StatisticsCounter.RATINGS, -1);
+            current.addNewRatings(createdAt.toLocalDate(), -1);
+        });
+    }
+
+    @Override
+    public void reconcileAfterCommit() {
+        TransactionCallbacks.afterCommit(this::reconcile);
+    }
+
+    @Override
+    public synchronized void reconcile() {
+        long started = System.currentTimeMillis();
+        StatisticsRollup rebuilt = reconcileTransaction.execute(status -> load(LocalDate.now().minusDays(retentionDays)));
+        StatisticsRollup previous = rollup;
+        rollup = rebuilt;
+
+        if (previous != null) {
+            int corrected = 0;
+            for (StatisticsCounter counter : StatisticsCounter.values()) {
+                if (previous.getTotal(counter) != rebuilt.getTotal(counter)) {
+                    corrected++;
+                }
+            }
+            if (corrected > 0) {
+                log.info("Statistics reconciliation corrected {} counters in {} ms", corrected,
+                        System.currentTimeMillis() - started);
+            }
+        }
+    }
+
+    private StatisticsRollup load(LocalDate firstDay) {
+        LocalDateTime from = firstDay.atStartOfDay();
+        StatisticsRollup loaded = new StatisticsRollup(firstDay);
+
+        loaded.addTotal(StatisticsCounter.USERS, userRepository.count());
+        loaded.addTotal(StatisticsCounter.PATIENTS, userRepository.countByRoleName(RoleName.USER));
+        loaded.addTotal(StatisticsCounter.DOCTORS, doctorRepository.countActiveDoctors());
+        loaded.addTotal(StatisticsCounter.APPOINTMENTS, appointmentRepository.count());
+        loaded.addTotal(StatisticsCounter.RATINGS, doctorRatingRepository.count());
+
+        for (DailyCount count : appointmentRepository.countPerDayByStatus(from)) {
+            loaded.addAppointmentStatus(count.day(), AppointmentStatus.valueOf(count.key()), count.total());
+        }
+        for (DailyCount count : appointmentRepository.countPerDayBySpecialization(from)) {
+            loaded.addAppointmentSpecialization(count.day(), count.key(), count.total());
+        }
+        for (DailyTotal total : userRepository.countCreatedPerDay(from)) {
+            loaded.addNewUsers(total.day(), total.total());
+        }
+        for (DailyTotal total : doctorRatingRepository.countCreatedPerDay(from)) {
+            loaded.addNewRatings(total.day(), total.total());
+        }
+        return loaded;
+    }
+
+    private StatisticsRollup current() {
+        StatisticsRollup current = rollup;
+        if (current == null) {
+            synchronized (this) {
+                if (rollup == null) {
+                    reconcile();
+                }
+                current = rollup;
+            }
+        }
+        return current;
+    }
+
+    private void apply(Consumer<StatisticsRollup> change) {
+        TransactionCallbacks.afterCommit(() -> {
+            StatisticsRollup current = rollup;
+            if (current != null) {
+                change.accept(current);
+            }
+        });
+    }
+}
@@ -18,6 +18,7 @@ import com.reservation.medical_reservation.repository.DoctorRequestRepository;
 import com.reservation.medical_reservation.repository.RoleRepository;
 import com.reservation.medical_reservation.repository.UserRepository;
 import com.reservation.medical_reservation.service.NotificationService;
+import com.reservation.medical_reservation.service.StatisticsService;
 import com.reservation.medical_reservation.service.UserService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -37,16 +38,19 @@ public class UserServiceImpl implements UserService {
     private final DoctorRequestRepository doctorRequestRepository;
     private final DoctorRepository doctorRepository;
     private final NotificationService notificationService;
+    private final StatisticsService statisticsService;
 
     public UserServiceImpl(UserRepository userRepository, RoleRepository roleRepository, 
                           PasswordEncoder passwordEncoder, DoctorRequestRepository doctorRequestRepository,
-                          DoctorRepository doctorRepository, NotificationService notificationService) {
+                          DoctorRepository doctorRepository, NotificationService notificationService,
+                          StatisticsService statisticsService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.doctorRequestRepository = doctorRequestRepository;
         this.doctorRepository = doctorRepository;
         this.notificationService = notificationService;
+        this.statisticsService = statisticsService;
     }
 
     @Override
@@ -80,6 +84,7 @@ public class UserServiceImpl implements UserService {
         }
 
         UserEntity savedUser = userRepository.save(user);
+        statisticsService.recordUserCreated(roleName, savedUser.getCreatedAt());
 
         if ("DOCTOR".equals(registerDTO.getRole())) {
             createDoctorEntity(savedUser, registerDTO);
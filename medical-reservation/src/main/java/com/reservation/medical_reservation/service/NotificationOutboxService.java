@@ -0,0 +1,12 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.dto.NotificationOutboxStatsDTO;
+import com.reservation.medical_reservation.model.entity.NotificationEntity;
+
+import java.util.List;
+
+public interface NotificationOutboxService {
+    void submit(List<NotificationEntity> notifications);
+    void flush();
+    NotificationOutboxStatsDTO getStats();
+}
@@ -0,0 +1,9 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.dto.RetentionRunDTO;
+
+public interface NotificationRetentionService {
+    RetentionRunDTO runRetention();
+    boolean startRetention();
+    RetentionRunDTO getLastRun();
+}
@@ -1,19 +1,26 @@
 package com.reservation.medical_reservation.service;
 
 import com.reservation.medical_reservation.model.dto.NotificationDTO;
+import com.reservation.medical_reservation.model.entity.NotificationEntity;
 import com.reservation.medical_reservation.model.entity.UserEntity;
 import com.reservation.medical_reservation.model.enums.NotificationType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationService {
     void createNotification(UserEntity user, String title, String message, NotificationType type);
+    void createNotifications(List<NotificationEntity> notifications);
     List<NotificationDTO> getNotificationsByUser(Long userId);
     List<NotificationDTO> getUserNotifications(Long userId);
     List<NotificationDTO> getUnreadNotificationsByUser(Long userId);
     List<NotificationDTO> getUnreadNotifications(Long userId);
+    Page<NotificationDTO> getNotificationsPage(Long userId, Pageable pageable);
     void markAsRead(Long notificationId, Long userId);
     void markAsRead(Long notificationId);
+    int markAsRead(Collection<Long> notificationIds, Long userId);
     void markAllAsRead(Long userId);
     long getUnreadCount(Long userId);
     void deleteNotification(Long notificationId);
@@ -0,0 +1,13 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.entity.NotificationEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface NotificationStreamService {
+    SseEmitter subscribe(Long userId);
+    void publish(List<NotificationEntity> notifications);
+    void publishUnreadCount(Long userId);
+    int getSubscriberCount();
+}
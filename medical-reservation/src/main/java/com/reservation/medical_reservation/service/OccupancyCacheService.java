@@ -0,0 +1,17 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.util.DayOccupancy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OccupancyCacheService {
+    List<DayOccupancy> getDays(DoctorEntity doctor, LocalDate startDate, LocalDate endDate);
+    void markBusy(Long doctorId, LocalDateTime startTime, LocalDateTime endTime);
+    void addSlot(Long doctorId, Long scheduleId, LocalDateTime startTime, LocalDateTime endTime);
+    void evict(Long doctorId, LocalDateTime startTime, LocalDateTime endTime);
+    void evictDoctor(Long doctorId);
+    void evictAll();
+}
@@ -0,0 +1,7 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.dto.PatientDashboardDTO;
+
+public interface PatientDashboardService {
+    PatientDashboardDTO getDashboard(Long patientId);
+}
@@ -0,0 +1,9 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.dto.MaterializationRunDTO;
+
+public interface ScheduleMaterializationService {
+    MaterializationRunDTO materializeAll();
+    boolean startMaterialization();
+    MaterializationRunDTO getLastRun();
+}
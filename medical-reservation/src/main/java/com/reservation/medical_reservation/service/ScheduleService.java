@@ -1,6 +1,7 @@
 package com.reservation.medical_reservation.service;
 
 import com.reservation.medical_reservation.model.dto.ScheduleDTO;
+import com.reservation.medical_reservation.model.dto.SlotGenerationResultDTO;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ public interface ScheduleService {
     ScheduleDTO createSchedule(ScheduleDTO scheduleDTO);
     List<ScheduleDTO> getDoctorSchedule(Long doctorId);
     List<ScheduleDTO> getAvailableSlots(Long doctorId, LocalDateTime startDate, LocalDateTime endDate);
+    List<LocalDate> getAvailableDays(Long doctorId, LocalDate startDate, LocalDate endDate);
     ScheduleDTO updateSchedule(Long scheduleId, ScheduleDTO scheduleDTO);
     void deleteSchedule(Long scheduleId);
     void markSlotUnavailable(Long scheduleId);
@@ -17,6 +19,7 @@ public interface ScheduleService {
     List<ScheduleDTO> getDoctorScheduleWithStatus(Long doctorId, LocalDateTime startDate, LocalDateTime endDate);
     List<ScheduleDTO> getDoctorScheduleWithStatusForDoctor(Long doctorId, LocalDateTime startDate, LocalDateTime endDate);
     ScheduleDTO createScheduleFromAvailability(ScheduleDTO scheduleDTO);
-    void generateScheduleFromAvailability(Long doctorId, LocalDate startDate, LocalDate endDate);
+    SlotGenerationResultDTO generateScheduleFromAvailability(Long doctorId, LocalDate startDate, LocalDate endDate);
+    List<ScheduleDTO> previewScheduleFromAvailability(Long doctorId, LocalDate startDate, LocalDate endDate);
     void deleteMultipleSchedules(List<Long> scheduleIds);
 }
@@ -0,0 +1,25 @@
+package com.reservation.medical_reservation.service;
+
+import com.reservation.medical_reservation.model.dto.DailyStatisticsDTO;
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.enums.RoleName;
+import com.reservation.medical_reservation.model.enums.StatisticsCounter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StatisticsService {
+    long getTotal(StatisticsCounter counter);
+    List<DailyStatisticsDTO> getDailyStatistics(LocalDate from, LocalDate to);
+    void recordUserCreated(RoleName role, LocalDateTime createdAt);
+    void recordUserRoleChanged(RoleName oldRole, RoleName newRole);
+    void recordDoctorActivationChanged(boolean wasActive, boolean active);
+    void recordAppointmentCreated(AppointmentStatus status, LocalDateTime appointmentTime, String specialization);
+    void recordAppointmentChanged(AppointmentStatus oldStatus, LocalDateTime oldTime,
+                                  AppointmentStatus newStatus, LocalDateTime newTime, String specialization);
+    void recordRatingCreated(LocalDateTime createdAt);
+    void recordRatingDeleted(LocalDateTime createdAt);
+    void reconcileAfterCommit();
+    void reconcile();
+}
@@ -0,0 +1,96 @@
+package com.reservation.medical_reservation.util;
+
+import com.reservation.medical_reservation.model.entity.AppointmentEntity;
+import com.reservation.medical_reservation.model.entity.BlockedSlotEntity;
+import com.reservation.medical_reservation.model.entity.ScheduleEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Schedule slots, blocked periods and active appointments of one doctor over a date range,
+ * loaded together so every view and check resolves a slot against the same snapshot.
+ */
+public class AvailabilityTimeline {
+
+    private final List<ScheduleEntity> schedules;
+    private final List<BlockedSlotEntity> blockedSlots;
+    private final List<AppointmentEntity> appointments;
+
+    public AvailabilityTimeline(List<ScheduleEntity> schedules,
+                                List<BlockedSlotEntity> blockedSlots,
+                                List<AppointmentEntity> appointments) {
+        this.schedules = sorted(schedules, ScheduleEntity::getStartTime);
+        this.blockedSlots = sorted(blockedSlots, BlockedSlotEntity::getStartTime);
+        this.appointments = sorted(appointments, AppointmentEntity::getAppointmentTime);
+    }
+
+    public List<ScheduleEntity> getSchedules() {
+        return schedules;
+    }
+
+    /**
+     * Pairs each slot with the first blocked period and appointment overlapping it in a single
+     * pass over the three start-ordered lists. Only entries still open at the current slot start
+     * are kept in the active windows, so the cost stays linear in the size of the inputs.
+     */
+    public List<ResolvedSlot> resolve(List<ScheduleEntity> slots) {
+        List<ScheduleEntity> orderedSlots = sorted(slots, ScheduleEntity::getStartTime);
+        List<ResolvedSlot> result = new ArrayList<>(orderedSlots.size());
+
+        Sweep<BlockedSlotEntity> blocked = new Sweep<>(blockedSlots, BlockedSlotEntity::getStartTime, BlockedSlotEntity::getEndTime);
+        Sweep<AppointmentEntity> booked = new Sweep<>(appointments, AppointmentEntity::getAppointmentTime, AppointmentEntity::getEndTime);
+
+        for (ScheduleEntity slot : orderedSlots) {
+            result.add(new ResolvedSlot(slot,
+                    blocked.firstOverlapping(slot.getStartTime(), slot.getEndTime()),
+                    booked.firstOverlapping(slot.getStartTime(), slot.getEndTime())));
+        }
+        return result;
+    }
+
+    public static boolean isOverlapping(LocalDateTime start1, LocalDateTime end1, LocalDateTime start2, LocalDateTime end2) {
+        return start1.isBefore(end2) && start2.isBefore(end1);
+    }
+
+    private static <T> List<T> sorted(List<T> items, Function<T, LocalDateTime> startOf) {
+        List<T> copy = new ArrayList<>(items);
+        copy.sort(Comparator.comparing(startOf));
+        return copy;
+    }
+
+    public record ResolvedSlot(ScheduleEntity schedule, BlockedSlotEntity blockingSlot, AppointmentEntity appointment) {
+    }
+
+    private static final class Sweep<T> {
+
+        private final List<T> items;
+        private final Function<T, LocalDateTime> startOf;
+        private final Function<T, LocalDateTime> endOf;
+        private final List<T> active = new ArrayList<>();
+        private int next;
+
+        private Sweep(List<T> items, Function<T, LocalDateTime> startOf, Function<T, LocalDateTime> endOf) {
+            this.items = items;
+            this.startOf = startOf;
+            this.endOf = endOf;
+        }
+
+        private T firstOverlapping(LocalDateTime start, LocalDateTime end) {
+            while (next < items.size() && startOf.apply(items.get(next)).isBefore(end)) {
+                active.add(items.get(next++));
+            }
+            active.removeIf(item -> !endOf.apply(item).isAfter(start));
+
+            for (T item : active) {
+                if (startOf.apply(item).isBefore(end)) {
+                    return item;
+                }
+            }
+            return null;
+        }
+    }
+}
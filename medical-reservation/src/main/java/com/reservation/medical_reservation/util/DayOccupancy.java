@@ -0,0 +1,113 @@
+package com.reservation.medical_reservation.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable view of one doctor-day: the bookable schedule slots of that day plus a bitmap of
+ * 5-minute cells taken by appointments or blocked periods. Busy ranges are rounded outwards
+ * to whole cells, so an unaligned booking never leaves its neighbours looking free.
+ */
+public final class DayOccupancy {
+
+    public static final int CELL_MINUTES = 5;
+    private static final int CELLS_PER_DAY = 24 * 60 / CELL_MINUTES;
+    private static final int WORDS = (CELLS_PER_DAY + 63) / 64;
+
+    private final LocalDate date;
+    private final long[] busy;
+    private final List<Slot> slots;
+
+    private DayOccupancy(LocalDate date, long[] busy, List<Slot> slots) {
+        this.date = date;
+        this.busy = busy;
+        this.slots = slots;
+    }
+
+    public static DayOccupancy of(LocalDate date, List<Slot> slots) {
+        List<Slot> ordered = new ArrayList<>(slots);
+        ordered.sort(Comparator.comparing(Slot::startTime));
+        return new DayOccupancy(date, new long[WORDS], List.copyOf(ordered));
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public List<Slot> getSlots() {
+        return slots;
+    }
+
+    public boolean isFree(LocalDateTime startTime, LocalDateTime endTime) {
+        int from = startCell(startTime);
+        int to = endCell(endTime);
+        for (int cell = from; cell < to; cell++) {
+            if ((busy[cell >>> 6] & (1L << cell)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasFreeSlotAfter(LocalDateTime now) {
+        for (Slot slot : slots) {
+            if (slot.startTime().isAfter(now) && isFree(slot.startTime(), slot.endTime())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public DayOccupancy withBusy(LocalDateTime startTime, LocalDateTime endTime) {
+        int from = startCell(startTime);
+        int to = endCell(endTime);
+        if (from >= to) {
+            return this;
+        }
+
+        long[] updated = busy.clone();
+        for (int cell = from; cell < to; cell++) {
+            updated[cell >>> 6] |= 1L << cell;
+        }
+        return new DayOccupancy(date, updated, slots);
+    }
+
+    public DayOccupancy withSlot(Long id, LocalDateTime startTime, LocalDateTime endTime) {
+        List<Slot> updated = new ArrayList<>(slots.size() + 1);
+        for (Slot slot : slots) {
+            if (!id.equals(slot.id())) {
+                updated.add(slot);
+            }
+        }
+        updated.add(new Slot(id, startTime, endTime));
+        updated.sort(Comparator.comparing(Slot::startTime));
+        return new DayOccupancy(date, busy, List.copyOf(updated));
+    }
+
+    private int startCell(LocalDateTime time) {
+        if (time.toLocalDate().isBefore(date)) {
+            return 0;
+        }
+        if (time.toLocalDate().isAfter(date)) {
+            return CELLS_PER_DAY;
+        }
+        return (time.getHour() * 60 + time.getMinute()) / CELL_MINUTES;
+    }
+
+    private int endCell(LocalDateTime time) {
+        if (time.toLocalDate().isBefore(date)) {
+            return 0;
+        }
+        if (time.toLocalDate().isAfter(date)) {
+            return CELLS_PER_DAY;
+        }
+        int minutes = time.getHour() * 60 + time.getMinute() + (time.getSecond() > 0 || time.getNano() > 0 ? 1 : 0);
+        return (minutes + CELL_MINUTES - 1) / CELL_MINUTES;
+    }
+
+    public record Slot(Long id, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+}
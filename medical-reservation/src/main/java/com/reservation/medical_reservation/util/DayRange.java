@@ -0,0 +1,15 @@
+package com.reservation.medical_reservation.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record DayRange(LocalDateTime start, LocalDateTime end) {
+
+    public static DayRange of(LocalDate date) {
+        return new DayRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    public static DayRange containing(LocalDateTime dateTime) {
+        return of(dateTime.toLocalDate());
+    }
+}
@@ -0,0 +1,219 @@
+package com.reservation.medical_reservation.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Immutable half-open intervals sorted by start and augmented with the running maximum of the
+ * end times. An overlap probe is a binary search followed by a backwards walk that stops as soon
+ * as no earlier interval can reach the probe, and ids are kept in a separate sorted view so
+ * lookups by id are binary searches too. Updates copy the arrays, so they cost O(n).
+ */
+public final class IntervalIndex {
+
+    private static final IntervalIndex EMPTY =
+            new IntervalIndex(new long[0], new long[0], new long[0], new long[0], new long[0], new int[0]);
+
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final long[] sortedIds;
+    private final int[] positions;
+
+    private IntervalIndex(long[] ids, long[] starts, long[] ends, long[] maxEnds, long[] sortedIds, int[] positions) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = maxEnds;
+        this.sortedIds = sortedIds;
+        this.positions = positions;
+    }
+
+    public static IntervalIndex empty() {
+        return EMPTY;
+    }
+
+    public static long toKey(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end, Long excludeId) {
+        long probeStart = toKey(start);
+        long probeEnd = toKey(end);
+
+        int i = lastStartingBefore(probeEnd);
+        while (i >= 0 && maxEnds[i] > probeStart) {
+            if (ends[i] > probeStart && (excludeId == null || ids[i] != excludeId)) {
+                return true;
+            }
+            i--;
+        }
+        return false;
+    }
+
+    public IntervalIndex with(long id, LocalDateTime start, LocalDateTime end) {
+        IntervalIndex base = contains(id) ? without(id) : this;
+        long key = toKey(start);
+
+        int n = base.ids.length;
+        int position = base.lastStartingBefore(key + 1) + 1;
+
+        long[] newIds = insert(base.ids, position, id);
+        long[] newStarts = insert(base.starts, position, key);
+        long[] newEnds = insert(base.ends, position, toKey(end));
+
+        int slot = -Arrays.binarySearch(base.sortedIds, id) - 1;
+        long[] newSortedIds = insert(base.sortedIds, slot, id);
+        int[] newPositions = new int[n + 1];
+        for (int i = 0, j = 0; i <= n; i++) {
+            if (i == slot) {
+                newPositions[i] = position;
+            } else {
+                int old = base.positions[j++];
+                newPositions[i] = old >= position ? old + 1 : old;
+            }
+        }
+
+        return new IntervalIndex(newIds, newStarts, newEnds, runningMax(newEnds), newSortedIds, newPositions);
+    }
+
+    public IntervalIndex without(long id) {
+        int slot = Arrays.binarySearch(sortedIds, id);
+        if (slot < 0) {
+            return this;
+        }
+
+        int n = ids.length;
+        int position = positions[slot];
+
+        long[] newIds = remove(ids, position);
+        long[] newStarts = remove(starts, position);
+        long[] newEnds = remove(ends, position);
+
+        long[] newSortedIds = remove(sortedIds, slot);
+        int[] newPositions = new int[n - 1];
+        for (int i = 0, j = 0; i < n; i++) {
+            if (i != slot) {
+                int old = positions[i];
+                newPositions[j++] = old > position ? old - 1 : old;
+            }
+        }
+
+        return new IntervalIndex(newIds, newStarts, newEnds, runningMax(newEnds), newSortedIds, newPositions);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private int lastStartingBefore(long key) {
+        int low = 0;
+        int high = starts.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < key) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private static long[] insert(long[] values, int position, long value) {
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(values, position, result, position + 1, values.length - position);
+        return result;
+    }
+
+    private static long[] remove(long[] values, int position) {
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, position);
+        System.arraycopy(values, position + 1, result, position, values.length - position - 1);
+        return result;
+    }
+
+    private static long[] runningMax(long[] ends) {
+        long[] result = new long[ends.length];
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            result[i] = max;
+        }
+        return result;
+    }
+
+    public static final class Builder {
+
+        private long[] ids = new long[16];
+        private long[] starts = new long[16];
+        private long[] ends = new long[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(long id, LocalDateTime start, LocalDateTime end) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            ids[size] = id;
+            starts[size] = toKey(start);
+            ends[size] = toKey(end);
+            size++;
+            return this;
+        }
+
+        public IntervalIndex build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+
+            long[] sortedIds = new long[size];
+            long[] sortedStarts = new long[size];
+            long[] sortedEnds = new long[size];
+            for (int i = 0; i < size; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedStarts[i] = starts[order[i]];
+                sortedEnds[i] = ends[order[i]];
+            }
+
+            Integer[] byId = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                byId[i] = i;
+            }
+            Arrays.sort(byId, (a, b) -> Long.compare(sortedIds[a], sortedIds[b]));
+
+            long[] idKeys = new long[size];
+            int[] positions = new int[size];
+            for (int i = 0; i < size; i++) {
+                idKeys[i] = sortedIds[byId[i]];
+                positions[i] = byId[i];
+            }
+
+            return new IntervalIndex(sortedIds, sortedStarts, sortedEnds, runningMax(sortedEnds), idKeys, positions);
+        }
+    }
+}
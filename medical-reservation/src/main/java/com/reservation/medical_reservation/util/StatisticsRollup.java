@@ -0,0 +1,124 @@
+package com.reservation.medical_reservation.util;
+
+import com.reservation.medical_reservation.model.enums.AppointmentStatus;
+import com.reservation.medical_reservation.model.enums.StatisticsCounter;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running counters plus per-day rollups from {@code firstDay} onwards. Every bucket is an
+ * {@link AtomicLong}, so incremental writers and readers never block each other; a
+ * reconciliation builds a fresh instance and swaps it in rather than mutating this one.
+ */
+public final class StatisticsRollup {
+
+    private static final String UNSPECIFIED = "Unspecified";
+
+    private final LocalDate firstDay;
+    private final Map<StatisticsCounter, AtomicLong> totals = new EnumMap<>(StatisticsCounter.class);
+    private final ConcurrentMap<LocalDate, Day> days = new ConcurrentHashMap<>();
+
+    public StatisticsRollup(LocalDate firstDay) {
+        this.firstDay = firstDay;
+        for (StatisticsCounter counter : StatisticsCounter.values()) {
+            totals.put(counter, new AtomicLong());
+        }
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public long getTotal(StatisticsCounter counter) {
+        return totals.get(counter).get();
+    }
+
+    public void addTotal(StatisticsCounter counter, long delta) {
+        totals.get(counter).addAndGet(delta);
+    }
+
+    public void addAppointmentStatus(LocalDate date, AppointmentStatus status, long delta) {
+        Day day = day(date);
+        if (day != null) {
+            day.appointmentsByStatus.get(status).addAndGet(delta);
+        }
+    }
+
+    public void addAppointmentSpecialization(LocalDate date, String specialization, long delta) {
+        Day day = day(date);
+        if (day != null) {
+            day.appointmentsBySpecialization
+                    .computeIfAbsent(specialization != null ? specialization : UNSPECIFIED, key -> new AtomicLong())
+                    .addAndGet(delta);
+        }
+    }
+
+    public void addNewUsers(LocalDate date, long delta) {
+        Day day = day(date);
+        if (day != null) {
+            day.newUsers.addAndGet(delta);
+        }
+    }
+
+    public void addNewRatings(LocalDate date, long delta) {
+        Day day = day(date);
+        if (day != null) {
+            day.newRatings.addAndGet(delta);
+        }
+    }
+
+    public Day getDay(LocalDate date) {
+        return days.get(date);
+    }
+
+    private Day day(LocalDate date) {
+        if (date.isBefore(firstDay)) {
+            return null;
+        }
+        return days.computeIfAbsent(date, key -> new Day());
+    }
+
+    public static final class Day {
+
+        private final Map<AppointmentStatus, AtomicLong> appointmentsByStatus = new EnumMap<>(AppointmentStatus.class);
+        private final ConcurrentMap<String, AtomicLong> appointmentsBySpecialization = new ConcurrentHashMap<>();
+        private final AtomicLong newUsers = new AtomicLong();
+        private final AtomicLong newRatings = new AtomicLong();
+
+        private Day() {
+            for (AppointmentStatus status : AppointmentStatus.values()) {
+                appointmentsByStatus.put(status, new AtomicLong());
+            }
+        }
+
+        public Map<String, Long> getAppointmentsByStatus() {
+            Map<String, Long> result = new TreeMap<>();
+            appointmentsByStatus.forEach((status, count) -> result.put(status.name(), count.get()));
+            return result;
+        }
+
+        public Map<String, Long> getAppointmentsBySpecialization() {
+            Map<String, Long> result = new TreeMap<>();
+            appointmentsBySpecialization.forEach((specialization, count) -> {
+                if (count.get() != 0) {
+                    result.put(specialization, count.get());
+                }
+            });
+            return result;
+        }
+
+        public long getNewUsers() {
+            return newUsers.get();
+        }
+
+        public long getNewRatings() {
+            return newRatings.get();
+        }
+    }
+}
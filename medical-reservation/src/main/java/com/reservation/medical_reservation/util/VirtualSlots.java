@@ -0,0 +1,100 @@
+package com.reservation.medical_reservation.util;
+
+import com.reservation.medical_reservation.model.entity.DoctorAvailabilityEntity;
+import com.reservation.medical_reservation.model.entity.DoctorEntity;
+import com.reservation.medical_reservation.model.entity.ScheduleEntity;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Expands weekly availability rules into transient schedule slots. Stored schedule rows act as
+ * overrides: a rule slot overlapping any stored row is dropped in favour of the stored one.
+ */
+public final class VirtualSlots {
+
+    private VirtualSlots() {
+    }
+
+    public static List<ScheduleEntity> expand(DoctorEntity doctor, List<DoctorAvailabilityEntity> rules,
+                                              LocalDate startDate, LocalDate endDate) {
+        Map<DayOfWeek, DoctorAvailabilityEntity> rulesByDay = new EnumMap<>(DayOfWeek.class);
+        for (DoctorAvailabilityEntity rule : rules) {
+            rulesByDay.put(rule.getDayOfWeek(), rule);
+        }
+
+        List<ScheduleEntity> slots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DoctorAvailabilityEntity rule = rulesByDay.get(date.getDayOfWeek());
+            if (rule == null || rule.getSlotDuration() == null || rule.getSlotDuration() <= 0) {
+                continue;
+            }
+
+            LocalDateTime dayEnd = LocalDateTime.of(date, rule.getEndTime());
+            LocalDateTime start = LocalDateTime.of(date, rule.getStartTime());
+            while (!start.plusMinutes(rule.getSlotDuration()).isAfter(dayEnd)) {
+                ScheduleEntity slot = new ScheduleEntity();
+                slot.setDoctor(doctor);
+                slot.setStartTime(start);
+                slot.setEndTime(start.plusMinutes(rule.getSlotDuration()));
+                slot.setAvailable(true);
+                slots.add(slot);
+                start = slot.getEndTime();
+            }
+        }
+        return slots;
+    }
+
+    public static boolean covers(DoctorAvailabilityEntity rule, LocalDateTime startTime, LocalDateTime endTime) {
+        if (rule.getSlotDuration() == null || rule.getSlotDuration() <= 0
+                || rule.getDayOfWeek() != startTime.getDayOfWeek()) {
+            return false;
+        }
+
+        LocalDateTime ruleStart = LocalDateTime.of(startTime.toLocalDate(), rule.getStartTime());
+        LocalDateTime ruleEnd = LocalDateTime.of(startTime.toLocalDate(), rule.getEndTime());
+        if (startTime.isBefore(ruleStart)) {
+            return false;
+        }
+
+        long offset = Duration.between(ruleStart, startTime).toMinutes();
+        LocalDateTime slotStart = ruleStart.plusMinutes(offset - offset % rule.getSlotDuration());
+        LocalDateTime slotEnd = slotStart.plusMinutes(rule.getSlotDuration());
+        return !slotEnd.isAfter(ruleEnd) && !endTime.isAfter(slotEnd);
+    }
+
+    public static List<ScheduleEntity> withoutExisting(List<ScheduleEntity> candidateSlots, List<ScheduleEntity> storedSlots) {
+        Set<List<LocalDateTime>> stored = new HashSet<>();
+        for (ScheduleEntity slot : storedSlots) {
+            stored.add(List.of(slot.getStartTime(), slot.getEndTime()));
+        }
+
+        return candidateSlots.stream()
+                .filter(slot -> !stored.contains(List.of(slot.getStartTime(), slot.getEndTime())))
+                .toList();
+    }
+
+    public static List<ScheduleEntity> withoutOverridden(List<ScheduleEntity> virtualSlots, List<ScheduleEntity> storedSlots) {
+        if (storedSlots.isEmpty()) {
+            return virtualSlots;
+        }
+
+        IntervalIndex.Builder builder = IntervalIndex.builder();
+        for (int i = 0; i < storedSlots.size(); i++) {
+            builder.add(i, storedSlots.get(i).getStartTime(), storedSlots.get(i).getEndTime());
+        }
+        IntervalIndex stored = builder.build();
+
+        return virtualSlots.stream()
+                .filter(slot -> !stored.overlaps(slot.getStartTime(), slot.getEndTime(), null))
+                .toList();
+    }
+}
@@ -0,0 +1,166 @@
+CREATE TABLE IF NOT EXISTS roles (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT PRIMARY KEY,
+    full_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    phone_number VARCHAR(255),
+    password VARCHAR(255) NOT NULL,
+    is_active BOOLEAN NOT NULL,
+    deactivation_type VARCHAR(255),
+    last_login TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL,
+    password_reset_token VARCHAR(255),
+    password_reset_token_expiration TIMESTAMP(6),
+    role_id BIGINT NOT NULL REFERENCES roles (id)
+);
+
+CREATE TABLE IF NOT EXISTS patient_profiles (
+    user_id BIGINT PRIMARY KEY REFERENCES users (id),
+    date_of_birth DATE,
+    gender VARCHAR(255),
+    address VARCHAR(255),
+    emergency_phone VARCHAR(255),
+    blood_type VARCHAR(255),
+    emergency_contact_name VARCHAR(255),
+    emergency_contact_relationship VARCHAR(255),
+    chronic_conditions TEXT,
+    allergies TEXT,
+    current_medications TEXT,
+    past_surgeries TEXT,
+    family_medical_history TEXT,
+    height NUMERIC(5, 2),
+    weight NUMERIC(5, 2),
+    bmi NUMERIC(4, 2),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS doctors (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL UNIQUE REFERENCES users (id),
+    specialization VARCHAR(255) NOT NULL,
+    bio VARCHAR(1000),
+    license_number VARCHAR(255) NOT NULL,
+    education VARCHAR(500),
+    experience VARCHAR(500),
+    rating FLOAT(53),
+    total_ratings INTEGER,
+    is_active BOOLEAN,
+    created_at TIMESTAMP(6),
+    price INTEGER,
+    location VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS doctor_requests (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL UNIQUE REFERENCES users (id),
+    specialization VARCHAR(255) NOT NULL,
+    bio VARCHAR(1000),
+    license_number VARCHAR(255) NOT NULL,
+    education VARCHAR(500),
+    experience VARCHAR(500),
+    status VARCHAR(255) NOT NULL,
+    rejection_reason VARCHAR(500),
+    reviewed_by BIGINT REFERENCES users (id),
+    reviewed_at TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS services (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    price FLOAT(53) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS appointments (
+    id BIGINT PRIMARY KEY,
+    patient_id BIGINT NOT NULL REFERENCES users (id),
+    doctor_id BIGINT NOT NULL REFERENCES doctors (id),
+    service_id BIGINT REFERENCES services (id),
+    appointment_time TIMESTAMP(6) NOT NULL,
+    end_time TIMESTAMP(6) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    notes VARCHAR(1000),
+    cancellation_reason VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS schedules (
+    id BIGINT PRIMARY KEY,
+    doctor_id BIGINT NOT NULL REFERENCES doctors (id),
+    start_time TIMESTAMP(6) NOT NULL,
+    end_time TIMESTAMP(6) NOT NULL,
+    available BOOLEAN NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS blocked_slots (
+    id BIGINT PRIMARY KEY,
+    doctor_id BIGINT NOT NULL REFERENCES doctors (id),
+    start_time TIMESTAMP(6) NOT NULL,
+    end_time TIMESTAMP(6) NOT NULL,
+    reason VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS doctor_availability (
+    id BIGINT PRIMARY KEY,
+    doctor_id BIGINT NOT NULL REFERENCES doctors (id),
+    day_of_week VARCHAR(255) NOT NULL,
+    start_time TIME(6) NOT NULL,
+    end_time TIME(6) NOT NULL,
+    slot_duration INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS doctor_ratings (
+    id BIGINT PRIMARY KEY,
+    doctor_id BIGINT NOT NULL REFERENCES doctors (id),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    rating INTEGER NOT NULL,
+    comment VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    UNIQUE (doctor_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS medical_history (
+    id BIGINT PRIMARY KEY,
+    patient_id BIGINT NOT NULL REFERENCES users (id),
+    doctor_id BIGINT NOT NULL REFERENCES doctors (id),
+    appointment_id BIGINT REFERENCES appointments (id),
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(2000),
+    diagnosis VARCHAR(1000),
+    treatment VARCHAR(1000),
+    medications VARCHAR(500),
+    record_type VARCHAR(100),
+    attachment_url VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    title VARCHAR(255) NOT NULL,
+    message VARCHAR(1000),
+    type VARCHAR(255) NOT NULL,
+    is_read BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS reschedule_requests (
+    id BIGINT PRIMARY KEY,
+    appointment_id BIGINT NOT NULL REFERENCES appointments (id),
+    original_date_time TIMESTAMP(6) NOT NULL,
+    requested_date_time TIMESTAMP(6) NOT NULL,
+    requested_end_time TIMESTAMP(6) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    patient_reason VARCHAR(1000),
+    doctor_response VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL,
+    responded_at TIMESTAMP(6)
+);
@@ -0,0 +1,29 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'appointments_doctor_no_overlap') THEN
+        SELECT string_agg(format('%s/%s (doctor %s)', pair.first_id, pair.second_id, pair.doctor_id), ', ')
+        INTO conflicts
+        FROM (
+            SELECT a.id AS first_id, b.id AS second_id, a.doctor_id
+            FROM appointments a
+            JOIN appointments b ON b.doctor_id = a.doctor_id AND b.id > a.id
+            WHERE a.status <> 'CANCELLED' AND b.status <> 'CANCELLED'
+              AND a.appointment_time < b.end_time AND b.appointment_time < a.end_time
+            ORDER BY a.doctor_id, a.id, b.id
+            LIMIT 100
+        ) pair;
+
+        IF conflicts IS NOT NULL THEN
+            RAISE EXCEPTION 'Cannot add appointments_doctor_no_overlap: overlapping active appointments %', conflicts
+                USING HINT = 'Cancel or reschedule one appointment of each pair (status = ''CANCELLED''), then rerun the migration.';
+        END IF;
+
+        ALTER TABLE appointments ADD CONSTRAINT appointments_doctor_no_overlap
+            EXCLUDE USING gist (doctor_id WITH =, tsrange(appointment_time, end_time) WITH &&)
+            WHERE (status <> 'CANCELLED');
+    END IF;
+END $$;
@@ -0,0 +1,38 @@
+CREATE SEQUENCE IF NOT EXISTS appointments_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('appointments_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM appointments) + 50, (SELECT last_value FROM appointments_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS blocked_slots_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('blocked_slots_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM blocked_slots) + 50, (SELECT last_value FROM blocked_slots_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS doctor_availability_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('doctor_availability_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM doctor_availability) + 50, (SELECT last_value FROM doctor_availability_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS doctors_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('doctors_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM doctors) + 50, (SELECT last_value FROM doctors_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS doctor_ratings_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('doctor_ratings_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM doctor_ratings) + 50, (SELECT last_value FROM doctor_ratings_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS doctor_requests_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('doctor_requests_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM doctor_requests) + 50, (SELECT last_value FROM doctor_requests_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS medical_history_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('medical_history_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM medical_history) + 50, (SELECT last_value FROM medical_history_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS notifications_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('notifications_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM notifications) + 50, (SELECT last_value FROM notifications_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS reschedule_requests_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('reschedule_requests_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM reschedule_requests) + 50, (SELECT last_value FROM reschedule_requests_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS roles_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('roles_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM roles) + 50, (SELECT last_value FROM roles_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS schedules_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('schedules_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM schedules) + 50, (SELECT last_value FROM schedules_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS services_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('services_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM services) + 50, (SELECT last_value FROM services_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users) + 50, (SELECT last_value FROM users_seq)));
@@ -0,0 +1,35 @@
+CREATE INDEX IF NOT EXISTS idx_appointments_doctor_time_active
+    ON appointments (doctor_id, appointment_time) WHERE status <> 'CANCELLED';
+
+CREATE INDEX IF NOT EXISTS idx_schedules_doctor_start
+    ON schedules (doctor_id, start_time);
+
+CREATE INDEX IF NOT EXISTS idx_schedules_doctor_start_available
+    ON schedules (doctor_id, start_time) WHERE available = true;
+
+CREATE INDEX IF NOT EXISTS idx_blocked_slots_doctor_start
+    ON blocked_slots (doctor_id, start_time);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_availability_doctor_day
+    ON doctor_availability (doctor_id, day_of_week);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created
+    ON notifications (user_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications (user_id) WHERE is_read = false;
+
+CREATE INDEX IF NOT EXISTS idx_reschedule_requests_appointment
+    ON reschedule_requests (appointment_id);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_ratings_user
+    ON doctor_ratings (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_medical_history_patient_created
+    ON medical_history (patient_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_medical_history_doctor_created
+    ON medical_history (doctor_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_users_password_reset_token
+    ON users (password_reset_token) WHERE password_reset_token IS NOT NULL;
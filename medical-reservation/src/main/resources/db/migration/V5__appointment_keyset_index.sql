@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_appointments_time_id
+    ON appointments (appointment_time, id);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_doctor_time_id
+    ON appointments (doctor_id, appointment_time, id);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_time_id
+    ON appointments (patient_id, appointment_time, id);
@@ -0,0 +1,11 @@
+ALTER TABLE users ADD COLUMN IF NOT EXISTS unread_notifications BIGINT NOT NULL DEFAULT 0;
+
+UPDATE users u
+SET unread_notifications = counts.total
+FROM (
+    SELECT user_id, COUNT(*) AS total
+    FROM notifications
+    WHERE is_read = FALSE
+    GROUP BY user_id
+) counts
+WHERE counts.user_id = u.id;
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    message VARCHAR(1000),
+    type VARCHAR(255) NOT NULL,
+    is_read BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+) PARTITION BY RANGE (archived_at);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_archive_user_created
+    ON notifications_archive (user_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_read_expiry
+    ON notifications (type, created_at) WHERE is_read = true;
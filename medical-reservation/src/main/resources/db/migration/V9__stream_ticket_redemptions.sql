@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS stream_ticket_redemptions (
+    ticket_id VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_stream_ticket_redemptions_expires_at ON stream_ticket_redemptions (expires_at);
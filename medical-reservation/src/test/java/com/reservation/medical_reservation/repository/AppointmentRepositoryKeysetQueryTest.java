@@ -0,0 +1,46 @@
+package com.reservation.medical_reservation.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppointmentRepositoryKeysetQueryTest {
+
+    private static final String ROW_VALUE_BOUND = "(a.appointmentTime, a.id) < (:time, :id)";
+    private static final String KEYSET_ORDER = "ORDER BY a.appointmentTime DESC, a.id DESC";
+
+    @Test
+    void allRowsPageUsesRowValueBound() throws NoSuchMethodException {
+        assertKeyset(query("findRowsBefore", LocalDateTime.class, Long.class, Limit.class));
+    }
+
+    @Test
+    void patientPageUsesRowValueBound() throws NoSuchMethodException {
+        String query = query("findRowsByPatientBefore", Long.class, LocalDateTime.class, Long.class, Limit.class);
+
+        assertKeyset(query);
+        assertThat(query).contains("p.id = :patientId AND " + ROW_VALUE_BOUND);
+    }
+
+    @Test
+    void doctorPageUsesRowValueBound() throws NoSuchMethodException {
+        String query = query("findRowsByDoctorBefore", Long.class, LocalDateTime.class, Long.class, Limit.class);
+
+        assertKeyset(query);
+        assertThat(query).contains("d.id = :doctorId AND " + ROW_VALUE_BOUND);
+    }
+
+    private static void assertKeyset(String query) {
+        assertThat(query).contains(ROW_VALUE_BOUND);
+        assertThat(query).doesNotContainIgnoringCase(" OR ");
+        assertThat(query).endsWith(KEYSET_ORDER);
+    }
+
+    private static String query(String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return AppointmentRepository.class.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+    }
+}
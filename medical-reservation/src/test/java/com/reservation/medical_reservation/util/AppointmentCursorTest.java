@@ -0,0 +1,79 @@
+package com.reservation.medical_reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppointmentCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        AppointmentCursor cursor = new AppointmentCursor(LocalDateTime.of(2026, 3, 2, 9, 30), 42L);
+
+        assertThat(AppointmentCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsSecondsAndNanos() {
+        AppointmentCursor cursor = new AppointmentCursor(LocalDateTime.of(2026, 3, 2, 9, 30, 15, 123_456_000), 7L);
+
+        assertThat(AppointmentCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedTokenIsUrlSafeWithoutPadding() {
+        String token = new AppointmentCursor(LocalDateTime.of(2026, 3, 2, 9, 0), 1L).encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void missingTokenStartsFromTheFirstPage() {
+        assertThat(AppointmentCursor.decode(null)).isSameAs(AppointmentCursor.FIRST);
+        assertThat(AppointmentCursor.decode("")).isSameAs(AppointmentCursor.FIRST);
+        assertThat(AppointmentCursor.decode("  ")).isSameAs(AppointmentCursor.FIRST);
+    }
+
+    @Test
+    void firstCursorRoundTrips() {
+        assertThat(AppointmentCursor.decode(AppointmentCursor.FIRST.encode())).isEqualTo(AppointmentCursor.FIRST);
+    }
+
+    @Test
+    void rejectsTokenThatIsNotBase64() {
+        assertInvalid("not*base64!");
+    }
+
+    @Test
+    void rejectsTokenWithoutSeparator() {
+        assertInvalid(token("2026-03-02T09:00"));
+    }
+
+    @Test
+    void rejectsMalformedTimestamp() {
+        assertInvalid(token("yesterday|42"));
+        assertInvalid(token("|42"));
+    }
+
+    @Test
+    void rejectsMalformedId() {
+        assertInvalid(token("2026-03-02T09:00|abc"));
+        assertInvalid(token("2026-03-02T09:00|"));
+        assertInvalid(token("2026-03-02T09:00|99999999999999999999"));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> AppointmentCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String token(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
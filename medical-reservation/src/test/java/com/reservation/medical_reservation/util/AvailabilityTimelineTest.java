@@ -0,0 +1,174 @@
+package com.reservation.medical_reservation.util;
+
+import com.reservation.medical_reservation.model.entity.AppointmentEntity;
+import com.reservation.medical_reservation.model.entity.BlockedSlotEntity;
+import com.reservation.medical_reservation.model.entity.ScheduleEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityTimelineTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    @Test
+    void freeSlotResolvesToNothing() {
+        ScheduleEntity slot = slot(1, at(9), at(10));
+        AvailabilityTimeline timeline = new AvailabilityTimeline(List.of(slot), List.of(), List.of());
+
+        List<AvailabilityTimeline.ResolvedSlot> resolved = timeline.resolve(List.of(slot));
+
+        assertThat(resolved).hasSize(1);
+        assertThat(resolved.get(0).schedule()).isSameAs(slot);
+        assertThat(resolved.get(0).blockingSlot()).isNull();
+        assertThat(resolved.get(0).appointment()).isNull();
+    }
+
+    @Test
+    void touchingPeriodsDoNotOverlapSlot() {
+        ScheduleEntity slot = slot(1, at(9), at(10));
+        AvailabilityTimeline timeline = new AvailabilityTimeline(
+                List.of(slot),
+                List.of(blocked(1, at(8), at(9))),
+                List.of(appointment(1, at(10), at(11))));
+
+        AvailabilityTimeline.ResolvedSlot resolved = timeline.resolve(List.of(slot)).get(0);
+
+        assertThat(resolved.blockingSlot()).isNull();
+        assertThat(resolved.appointment()).isNull();
+    }
+
+    @Test
+    void longBlockedPeriodCoversEverySlotItSpans() {
+        List<ScheduleEntity> slots = List.of(slot(1, at(9), at(10)), slot(2, at(10), at(11)), slot(3, at(11), at(12)));
+        BlockedSlotEntity block = blocked(1, at(9, 30), at(11, 30));
+        AvailabilityTimeline timeline = new AvailabilityTimeline(slots, List.of(block), List.of());
+
+        assertThat(timeline.resolve(slots))
+                .extracting(AvailabilityTimeline.ResolvedSlot::blockingSlot)
+                .containsExactly(block, block, block);
+    }
+
+    @Test
+    void resolvesSlotsInStartOrderRegardlessOfInput() {
+        ScheduleEntity late = slot(2, at(14), at(15));
+        ScheduleEntity early = slot(1, at(9), at(10));
+        AppointmentEntity appointment = appointment(1, at(14), at(15));
+        AvailabilityTimeline timeline = new AvailabilityTimeline(List.of(late, early), List.of(), List.of(appointment));
+
+        List<AvailabilityTimeline.ResolvedSlot> resolved = timeline.resolve(List.of(late, early));
+
+        assertThat(resolved.get(0).schedule()).isSameAs(early);
+        assertThat(resolved.get(0).appointment()).isNull();
+        assertThat(resolved.get(1).schedule()).isSameAs(late);
+        assertThat(resolved.get(1).appointment()).isSameAs(appointment);
+    }
+
+    @Test
+    void shortSlotAfterLongSlotIgnoresAppointmentsStartingAfterIt() {
+        ScheduleEntity wide = slot(1, at(9), at(17));
+        ScheduleEntity narrow = slot(2, at(10), at(11));
+        AppointmentEntity afternoon = appointment(1, at(15), at(16));
+        AvailabilityTimeline timeline = new AvailabilityTimeline(List.of(wide, narrow), List.of(), List.of(afternoon));
+
+        List<AvailabilityTimeline.ResolvedSlot> resolved = timeline.resolve(List.of(wide, narrow));
+
+        assertThat(resolved.get(0).appointment()).isSameAs(afternoon);
+        assertThat(resolved.get(1).appointment()).isNull();
+    }
+
+    @Test
+    void isOverlappingIsHalfOpen() {
+        assertThat(AvailabilityTimeline.isOverlapping(at(9), at(10), at(10), at(11))).isFalse();
+        assertThat(AvailabilityTimeline.isOverlapping(at(9), at(10), at(9, 59), at(11))).isTrue();
+        assertThat(AvailabilityTimeline.isOverlapping(at(9), at(12), at(10), at(11))).isTrue();
+    }
+
+    @Test
+    void matchesBruteForceOnRandomDays() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<ScheduleEntity> slots = new ArrayList<>();
+            List<BlockedSlotEntity> blocks = new ArrayList<>();
+            List<AppointmentEntity> appointments = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                int start = random.nextInt(24 * 60);
+                slots.add(slot(i, minutes(start), minutes(start + 15 + random.nextInt(120))));
+            }
+            for (int i = 0; i < 5; i++) {
+                int start = random.nextInt(24 * 60);
+                blocks.add(blocked(i, minutes(start), minutes(start + 1 + random.nextInt(240))));
+            }
+            for (int i = 0; i < 10; i++) {
+                int start = random.nextInt(24 * 60);
+                appointments.add(appointment(i, minutes(start), minutes(start + 1 + random.nextInt(60))));
+            }
+
+            AvailabilityTimeline timeline = new AvailabilityTimeline(slots, blocks, appointments);
+            List<BlockedSlotEntity> orderedBlocks = new ArrayList<>(blocks);
+            orderedBlocks.sort(Comparator.comparing(BlockedSlotEntity::getStartTime));
+            List<AppointmentEntity> orderedAppointments = new ArrayList<>(appointments);
+            orderedAppointments.sort(Comparator.comparing(AppointmentEntity::getAppointmentTime));
+
+            for (AvailabilityTimeline.ResolvedSlot resolved : timeline.resolve(slots)) {
+                ScheduleEntity slot = resolved.schedule();
+                BlockedSlotEntity expectedBlock = orderedBlocks.stream()
+                        .filter(block -> AvailabilityTimeline.isOverlapping(
+                                block.getStartTime(), block.getEndTime(), slot.getStartTime(), slot.getEndTime()))
+                        .findFirst()
+                        .orElse(null);
+                AppointmentEntity expectedAppointment = orderedAppointments.stream()
+                        .filter(appointment -> AvailabilityTimeline.isOverlapping(
+                                appointment.getAppointmentTime(), appointment.getEndTime(), slot.getStartTime(), slot.getEndTime()))
+                        .findFirst()
+                        .orElse(null);
+
+                assertThat(resolved.blockingSlot()).isSameAs(expectedBlock);
+                assertThat(resolved.appointment()).isSameAs(expectedAppointment);
+            }
+        }
+    }
+
+    private static ScheduleEntity slot(long id, LocalDateTime start, LocalDateTime end) {
+        ScheduleEntity slot = new ScheduleEntity();
+        slot.setId(id);
+        slot.setStartTime(start);
+        slot.setEndTime(end);
+        slot.setAvailable(true);
+        return slot;
+    }
+
+    private static BlockedSlotEntity blocked(long id, LocalDateTime start, LocalDateTime end) {
+        BlockedSlotEntity blocked = new BlockedSlotEntity();
+        blocked.setId(id);
+        blocked.setStartTime(start);
+        blocked.setEndTime(end);
+        return blocked;
+    }
+
+    private static AppointmentEntity appointment(long id, LocalDateTime start, LocalDateTime end) {
+        AppointmentEntity appointment = new AppointmentEntity();
+        appointment.setId(id);
+        appointment.setAppointmentTime(start);
+        appointment.setEndTime(end);
+        return appointment;
+    }
+
+    private static LocalDateTime at(int hour) {
+        return at(hour, 0);
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+
+    private static LocalDateTime minutes(int minutes) {
+        return DAY.plusMinutes(minutes);
+    }
+}
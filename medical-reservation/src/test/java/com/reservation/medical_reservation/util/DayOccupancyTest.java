@@ -0,0 +1,120 @@
+package com.reservation.medical_reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayOccupancyTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void newDayIsEntirelyFree() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of());
+
+        assertThat(day.isFree(DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay())).isTrue();
+    }
+
+    @Test
+    void busyRangeIsHalfOpen() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of()).withBusy(at(9, 0), at(10, 0));
+
+        assertThat(day.isFree(at(8, 0), at(9, 0))).isTrue();
+        assertThat(day.isFree(at(10, 0), at(11, 0))).isTrue();
+        assertThat(day.isFree(at(9, 55), at(10, 5))).isFalse();
+        assertThat(day.isFree(at(8, 55), at(9, 5))).isFalse();
+    }
+
+    @Test
+    void unalignedBusyRangeIsRoundedOutwards() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of()).withBusy(at(9, 2), at(9, 7));
+
+        assertThat(day.isFree(at(9, 0), at(9, 5))).isFalse();
+        assertThat(day.isFree(at(9, 5), at(9, 10))).isFalse();
+        assertThat(day.isFree(at(8, 55), at(9, 0))).isTrue();
+        assertThat(day.isFree(at(9, 10), at(9, 15))).isTrue();
+    }
+
+    @Test
+    void secondsPastTheCellBoundaryTakeTheNextCell() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of()).withBusy(at(9, 0), at(9, 5).withSecond(30));
+
+        assertThat(day.isFree(at(9, 5), at(9, 10))).isFalse();
+        assertThat(day.isFree(at(9, 10), at(9, 15))).isTrue();
+    }
+
+    @Test
+    void cellsOnEitherSideOfAWordBoundaryAreIndependent() {
+        LocalDateTime lastCellOfFirstWord = DATE.atStartOfDay().plusMinutes(63 * DayOccupancy.CELL_MINUTES);
+        LocalDateTime firstCellOfSecondWord = DATE.atStartOfDay().plusMinutes(64 * DayOccupancy.CELL_MINUTES);
+        LocalDateTime afterFirstCellOfSecondWord = firstCellOfSecondWord.plusMinutes(DayOccupancy.CELL_MINUTES);
+
+        DayOccupancy day = DayOccupancy.of(DATE, List.of()).withBusy(firstCellOfSecondWord, afterFirstCellOfSecondWord);
+
+        assertThat(day.isFree(lastCellOfFirstWord, firstCellOfSecondWord)).isTrue();
+        assertThat(day.isFree(firstCellOfSecondWord, afterFirstCellOfSecondWord)).isFalse();
+        assertThat(day.isFree(lastCellOfFirstWord, afterFirstCellOfSecondWord)).isFalse();
+        assertThat(day.isFree(DATE.atStartOfDay(), lastCellOfFirstWord)).isTrue();
+    }
+
+    @Test
+    void rangesCrossingMidnightAreClippedToTheDay() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of())
+                .withBusy(at(23, 55), DATE.plusDays(1).atTime(1, 0))
+                .withBusy(DATE.minusDays(1).atTime(23, 0), at(0, 5));
+
+        assertThat(day.isFree(at(23, 50), at(23, 55))).isTrue();
+        assertThat(day.isFree(at(23, 55), DATE.plusDays(1).atStartOfDay())).isFalse();
+        assertThat(day.isFree(DATE.atStartOfDay(), at(0, 5))).isFalse();
+        assertThat(day.isFree(at(0, 5), at(0, 10))).isTrue();
+    }
+
+    @Test
+    void rangeOutsideTheDayChangesNothing() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of());
+
+        assertThat(day.withBusy(DATE.minusDays(1).atTime(9, 0), DATE.minusDays(1).atTime(10, 0))).isSameAs(day);
+        assertThat(day.withBusy(DATE.plusDays(1).atTime(9, 0), DATE.plusDays(1).atTime(10, 0))).isSameAs(day);
+    }
+
+    @Test
+    void withBusyLeavesTheOriginalUntouched() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of());
+        DayOccupancy busy = day.withBusy(at(9, 0), at(10, 0));
+
+        assertThat(day.isFree(at(9, 0), at(10, 0))).isTrue();
+        assertThat(busy.isFree(at(9, 0), at(10, 0))).isFalse();
+    }
+
+    @Test
+    void freeSlotMustStartStrictlyAfterNowAndBeFree() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of(
+                        new DayOccupancy.Slot(1L, at(9, 0), at(10, 0)),
+                        new DayOccupancy.Slot(2L, at(10, 0), at(11, 0))))
+                .withBusy(at(10, 0), at(11, 0));
+
+        assertThat(day.hasFreeSlotAfter(at(8, 0))).isTrue();
+        assertThat(day.hasFreeSlotAfter(at(9, 0))).isFalse();
+    }
+
+    @Test
+    void withSlotReplacesSameIdAndKeepsStartOrder() {
+        DayOccupancy day = DayOccupancy.of(DATE, List.of(
+                new DayOccupancy.Slot(2L, at(14, 0), at(15, 0)),
+                new DayOccupancy.Slot(1L, at(9, 0), at(10, 0))));
+
+        DayOccupancy updated = day.withSlot(2L, at(8, 0), at(9, 0));
+
+        assertThat(day.getSlots()).extracting(DayOccupancy.Slot::id).containsExactly(1L, 2L);
+        assertThat(updated.getSlots()).extracting(DayOccupancy.Slot::id).containsExactly(2L, 1L);
+        assertThat(updated.getSlots().get(0).startTime()).isEqualTo(at(8, 0));
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return DATE.atTime(hour, minute);
+    }
+}
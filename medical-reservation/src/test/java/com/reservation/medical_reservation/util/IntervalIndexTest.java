@@ -0,0 +1,140 @@
+package com.reservation.medical_reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    @Test
+    void emptyIndexHasNoOverlaps() {
+        assertThat(IntervalIndex.empty().overlaps(at(9), at(10), null)).isFalse();
+        assertThat(IntervalIndex.builder().build().size()).isZero();
+    }
+
+    @Test
+    void touchingIntervalsDoNotOverlap() {
+        IntervalIndex index = IntervalIndex.builder()
+                .add(1, at(9), at(10))
+                .build();
+
+        assertThat(index.overlaps(at(8), at(9), null)).isFalse();
+        assertThat(index.overlaps(at(10), at(11), null)).isFalse();
+        assertThat(index.overlaps(at(9, 59), at(11), null)).isTrue();
+        assertThat(index.overlaps(at(8), at(9, 1), null)).isTrue();
+    }
+
+    @Test
+    void findsContainedAndContainingIntervals() {
+        IntervalIndex index = IntervalIndex.builder()
+                .add(1, at(9), at(12))
+                .build();
+
+        assertThat(index.overlaps(at(10), at(11), null)).isTrue();
+        assertThat(index.overlaps(at(8), at(13), null)).isTrue();
+    }
+
+    @Test
+    void walksPastShortIntervalsToLongEarlierOne() {
+        IntervalIndex index = IntervalIndex.builder()
+                .add(3, at(11), at(11, 30))
+                .add(1, at(8), at(17))
+                .add(2, at(9), at(9, 30))
+                .build();
+
+        assertThat(index.overlaps(at(12), at(13), null)).isTrue();
+        assertThat(index.overlaps(at(12), at(13), 1L)).isFalse();
+        assertThat(index.overlaps(at(17), at(18), null)).isFalse();
+    }
+
+    @Test
+    void excludedIdIsIgnored() {
+        IntervalIndex index = IntervalIndex.builder()
+                .add(1, at(9), at(10))
+                .add(2, at(10), at(11))
+                .build();
+
+        assertThat(index.overlaps(at(9), at(10), 1L)).isFalse();
+        assertThat(index.overlaps(at(9), at(10, 30), 1L)).isTrue();
+    }
+
+    @Test
+    void withReplacesExistingId() {
+        IntervalIndex index = IntervalIndex.builder()
+                .add(1, at(9), at(10))
+                .build()
+                .with(1, at(14), at(15));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.overlaps(at(9), at(10), null)).isFalse();
+        assertThat(index.overlaps(at(14), at(15), null)).isTrue();
+    }
+
+    @Test
+    void withoutRemovesOnlyThatId() {
+        IntervalIndex index = IntervalIndex.builder()
+                .add(1, at(9), at(10))
+                .add(2, at(9), at(10))
+                .build();
+
+        IntervalIndex removed = index.without(1);
+
+        assertThat(removed.contains(1)).isFalse();
+        assertThat(removed.contains(2)).isTrue();
+        assertThat(removed.overlaps(at(9), at(10), 2L)).isFalse();
+        assertThat(removed.overlaps(at(9), at(10), null)).isTrue();
+        assertThat(index.without(99)).isSameAs(index);
+        assertThat(index.contains(1)).isTrue();
+    }
+
+    @Test
+    void matchesBruteForceAfterRandomUpdates() {
+        Random random = new Random(42);
+        List<long[]> intervals = new ArrayList<>();
+        IntervalIndex index = IntervalIndex.empty();
+
+        for (int step = 0; step < 2000; step++) {
+            long id = random.nextInt(60);
+            if (random.nextInt(3) == 0) {
+                index = index.without(id);
+                intervals.removeIf(interval -> interval[0] == id);
+            } else {
+                int start = random.nextInt(24 * 60);
+                int length = 1 + random.nextInt(random.nextInt(10) == 0 ? 600 : 60);
+                index = index.with(id, minutes(start), minutes(start + length));
+                intervals.removeIf(interval -> interval[0] == id);
+                intervals.add(new long[]{id, start, start + length});
+            }
+
+            int probeStart = random.nextInt(24 * 60);
+            int probeEnd = probeStart + 1 + random.nextInt(90);
+            Long exclude = random.nextBoolean() ? (long) random.nextInt(60) : null;
+
+            boolean expected = intervals.stream().anyMatch(interval ->
+                    (exclude == null || interval[0] != exclude) && interval[1] < probeEnd && interval[2] > probeStart);
+
+            assertThat(index.overlaps(minutes(probeStart), minutes(probeEnd), exclude)).isEqualTo(expected);
+            assertThat(index.size()).isEqualTo(intervals.size());
+            assertThat(index.contains(id)).isEqualTo(intervals.stream().anyMatch(interval -> interval[0] == id));
+        }
+    }
+
+    private static LocalDateTime at(int hour) {
+        return at(hour, 0);
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+
+    private static LocalDateTime minutes(int minutes) {
+        return DAY.plusMinutes(minutes);
+    }
+}
@@ -0,0 +1,111 @@
+package com.reservation.medical_reservation.util;
+
+import com.reservation.medical_reservation.model.entity.DoctorAvailabilityEntity;
+import com.reservation.medical_reservation.model.entity.ScheduleEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualSlotsTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void expandsRuleIntoBackToBackSlots() {
+        List<ScheduleEntity> slots = VirtualSlots.expand(null,
+                List.of(rule(DayOfWeek.MONDAY, 9, 0, 11, 0, 30)), MONDAY, MONDAY);
+
+        assertThat(slots).extracting(ScheduleEntity::getStartTime)
+                .containsExactly(at(9, 0), at(9, 30), at(10, 0), at(10, 30));
+        assertThat(slots.get(slots.size() - 1).getEndTime()).isEqualTo(at(11, 0));
+        assertThat(slots).allMatch(ScheduleEntity::isAvailable);
+    }
+
+    @Test
+    void dropsTrailingPartialSlot() {
+        List<ScheduleEntity> slots = VirtualSlots.expand(null,
+                List.of(rule(DayOfWeek.MONDAY, 9, 0, 10, 20, 30)), MONDAY, MONDAY);
+
+        assertThat(slots).extracting(ScheduleEntity::getEndTime).containsExactly(at(9, 30), at(10, 0));
+    }
+
+    @Test
+    void skipsDaysWithoutRuleAndRulesWithoutDuration() {
+        List<ScheduleEntity> slots = VirtualSlots.expand(null, List.of(
+                rule(DayOfWeek.MONDAY, 9, 0, 10, 0, 0),
+                rule(DayOfWeek.WEDNESDAY, 9, 0, 10, 0, 60)), MONDAY, MONDAY.plusDays(6));
+
+        assertThat(slots).extracting(ScheduleEntity::getStartTime)
+                .containsExactly(MONDAY.plusDays(2).atTime(9, 0));
+    }
+
+    @Test
+    void coversOnlyTimesInsideOneRuleSlot() {
+        DoctorAvailabilityEntity rule = rule(DayOfWeek.MONDAY, 9, 0, 11, 0, 30);
+
+        assertThat(VirtualSlots.covers(rule, at(9, 0), at(9, 30))).isTrue();
+        assertThat(VirtualSlots.covers(rule, at(9, 10), at(9, 20))).isTrue();
+        assertThat(VirtualSlots.covers(rule, at(9, 15), at(9, 45))).isFalse();
+        assertThat(VirtualSlots.covers(rule, at(8, 30), at(9, 0))).isFalse();
+        assertThat(VirtualSlots.covers(rule, at(10, 30), at(11, 0))).isTrue();
+        assertThat(VirtualSlots.covers(rule, at(11, 0), at(11, 30))).isFalse();
+        assertThat(VirtualSlots.covers(rule, MONDAY.plusDays(1).atTime(9, 0), MONDAY.plusDays(1).atTime(9, 30))).isFalse();
+    }
+
+    @Test
+    void doesNotCoverTrailingPartialSlot() {
+        DoctorAvailabilityEntity rule = rule(DayOfWeek.MONDAY, 9, 0, 10, 20, 30);
+
+        assertThat(VirtualSlots.covers(rule, at(10, 0), at(10, 10))).isFalse();
+    }
+
+    @Test
+    void withoutExistingDropsExactMatchesOnly() {
+        List<ScheduleEntity> candidates = List.of(slot(at(9, 0), at(9, 30)), slot(at(9, 30), at(10, 0)));
+        List<ScheduleEntity> stored = List.of(slot(at(9, 0), at(9, 30)), slot(at(9, 40), at(10, 10)));
+
+        assertThat(VirtualSlots.withoutExisting(candidates, stored))
+                .extracting(ScheduleEntity::getStartTime)
+                .containsExactly(at(9, 30));
+    }
+
+    @Test
+    void withoutOverriddenDropsAnyOverlapButKeepsTouchingSlots() {
+        List<ScheduleEntity> virtual = List.of(
+                slot(at(9, 0), at(9, 30)), slot(at(9, 30), at(10, 0)), slot(at(10, 0), at(10, 30)));
+        List<ScheduleEntity> stored = List.of(slot(at(9, 40), at(9, 50)));
+
+        assertThat(VirtualSlots.withoutOverridden(virtual, stored))
+                .extracting(ScheduleEntity::getStartTime)
+                .containsExactly(at(9, 0), at(10, 0));
+        assertThat(VirtualSlots.withoutOverridden(virtual, List.of())).isSameAs(virtual);
+    }
+
+    private static DoctorAvailabilityEntity rule(DayOfWeek day, int startHour, int startMinute,
+                                                 int endHour, int endMinute, int slotDuration) {
+        DoctorAvailabilityEntity rule = new DoctorAvailabilityEntity();
+        rule.setDayOfWeek(day);
+        rule.setStartTime(LocalTime.of(startHour, startMinute));
+        rule.setEndTime(LocalTime.of(endHour, endMinute));
+        rule.setSlotDuration(slotDuration);
+        return rule;
+    }
+
+    private static ScheduleEntity slot(LocalDateTime start, LocalDateTime end) {
+        ScheduleEntity slot = new ScheduleEntity();
+        slot.setStartTime(start);
+        slot.setEndTime(end);
+        slot.setAvailable(true);
+        return slot;
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return MONDAY.atTime(hour, minute);
+    }
+}